@@ -0,0 +1,65 @@
+package client.ui;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트가 GAME_UPDATE 마다 하는 보드 문자열 해석 + 카드 반영.
+ * (점수/시간은 이미 숫자로 넘어오므로 문자열 해석은 applyBoardDelta / applyBoardSnapshot 에만 남음)
+ * 화면 없이 돌리므로 headless. 실제 그리기는 하지 않고 다시 그릴 영역 등록까지만 포함.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GamePanelBenchmark {
+
+    @Param({"10", "30", "100"})
+    int boardSize;
+
+    private GamePanel panel;
+    // 같은 카드 3장을 번갈아 팀1 / 팀2 로 (순번 같음 → 매번 실제로 반영됨)
+    private String deltaToTeam1;
+    private String deltaToTeam2;
+    private String snapshot;
+    private boolean flip;
+
+    @Setup
+    public void createPanel() {
+        StringBuilder board = new StringBuilder();
+        StringBuilder owners = new StringBuilder();
+        for (int i = 0; i < boardSize; i++) {
+            if (i > 0) {
+                board.append('/');
+                owners.append(',');
+            }
+            int team = (i < boardSize / 2) ? 1 : 2;
+            board.append("단어").append(i).append(',').append(team);
+            owners.append(team);
+        }
+        snapshot = owners.toString();
+
+        int a = 0;
+        int b = boardSize / 2;
+        int c = boardSize - 1;
+        deltaToTeam1 = a + ",1,1/" + b + ",1,1/" + c + ",1,1";
+        deltaToTeam2 = a + ",2,1/" + b + ",2,1/" + c + ",2,1";
+
+        panel = new GamePanel(null, "P1", 1);
+        panel.initializeGame("P1", 1, board.toString());
+    }
+
+    @Benchmark
+    public void applyBoardDelta() {
+        flip = !flip;
+        panel.applyBoardDelta(flip ? deltaToTeam1 : deltaToTeam2);
+    }
+
+    @Benchmark
+    public void applyBoardSnapshot() {
+        panel.applyBoardSnapshot(snapshot, 1);
+    }
+}
@@ -0,0 +1,36 @@
+package common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 시작마다 보드 단어 뽑기. 단어 풀보다 크게 요청하면 풀 크기까지만 뽑힘.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordPoolBenchmark {
+
+    @Param({"10", "30", "100"})
+    int boardSize;
+
+    private WordPool pool;
+
+    @Setup
+    public void loadPool() {
+        pool = new WordPool();
+    }
+
+    /**
+     * 여러 방이 동시에 게임을 시작하는 경우도 보려면 -t 로 스레드 수 지정
+     */
+    @Benchmark
+    public List<String> getRandomWords() {
+        return pool.getRandomWords(boardSize);
+    }
+}
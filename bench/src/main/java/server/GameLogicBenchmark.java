@@ -0,0 +1,84 @@
+package server;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 진행 중 단어 입력 1번마다 도는 경로: 단어 적용 / 점수 조회 / 보드 문자열 만들기.
+ * GameLogic 생성자는 -Dserver.board.size 까지만 카드를 쓰므로 fork 에 넉넉히 열어 둠.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dserver.board.size=1000")
+public class GameLogicBenchmark {
+
+    @Param({"10", "30", "100"})
+    int boardSize;
+
+    private List<String> words;
+    private GameLogic logic;
+    private int[] owners; // logic 과 같은 점령 상태 (매번 반대 팀으로 적용해 실제로 뒤집히게)
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void createWords() {
+        words = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            words.add("단어" + i);
+        }
+    }
+
+    /**
+     * 반복마다 새 게임 (보드 순번이 계속 커지지 않도록)
+     */
+    @Setup(Level.Iteration)
+    public void newGame() {
+        logic = new GameLogic(null, words, null, null);
+        owners = new int[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            owners[i] = (i < boardSize / 2) ? 1 : 2;
+        }
+        cursor = 0;
+    }
+
+    @Benchmark
+    public int applyWord() {
+        int index = cursor;
+        cursor = (index + 1 == boardSize) ? 0 : index + 1;
+
+        int team = 3 - owners[index];
+        owners[index] = team;
+        return logic.applyWord(team, words.get(index));
+    }
+
+    /**
+     * 이미 우리 팀 카드 (오타 / 중복 입력과 같은 "변화 없음" 경로)
+     */
+    @Benchmark
+    public int applyWordNoChange() {
+        int index = cursor;
+        cursor = (index + 1 == boardSize) ? 0 : index + 1;
+        return logic.applyWord(owners[index], words.get(index));
+    }
+
+    @Benchmark
+    public int scores() {
+        return logic.getScore1() + logic.getScore2();
+    }
+
+    @Benchmark
+    public String toBoardString() {
+        return logic.toBoardString();
+    }
+
+    @Benchmark
+    public String toOwnersString() {
+        return logic.toOwnersString();
+    }
+}
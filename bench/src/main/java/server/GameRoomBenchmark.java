@@ -0,0 +1,43 @@
+package server;
+
+import common.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 안 상태 변경(입장 / 준비)마다 ROOM_UPDATE 로 나가는 플레이어 목록 문자열과 준비 확인.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameRoomBenchmark {
+
+    @Param({"2", "4", "8"})
+    int roomSize;
+
+    private GameRoom room;
+
+    @Setup
+    public void fillRoom() {
+        room = new GameRoom("bench", roomSize, Runnable::run);
+        for (int i = 0; i < roomSize; i++) {
+            String playerId = "P" + (i + 1);
+            room.addPlayer(new Player(playerId, "player" + i), i % 2 + 1, new ClientHandler((GameServer) null, null));
+            room.setPlayerReady(playerId, true);
+        }
+    }
+
+    @Benchmark
+    public String playersProtocolString() {
+        return room.getPlayersProtocolString();
+    }
+
+    @Benchmark
+    public boolean isAllReady() {
+        return room.isAllReady();
+    }
+}
@@ -0,0 +1,105 @@
+package server;
+
+import common.BinaryProtocol;
+import common.Frame;
+import common.FrameDecoder;
+import common.MessageFields;
+import common.Protocol;
+import common.TextFrameDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 1개마다 도는 직렬화 / 해석 경로 (텍스트 · 바이너리).
+ * 예전 sendMessage 문자열 조립 → EncodedMessage, getAttributeValue → 디코더 + MessageFields 로 옮겨졌으므로 그쪽을 잼.
+ * 메시지는 카드 변경 3개 + 전체 점령 스냅샷을 담은 GAME_UPDATE (보드가 클수록 owners 가 길어짐).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dserver.board.size=1000")
+public class ProtocolBenchmark {
+
+    @Param({"10", "30", "100"})
+    int boardSize;
+
+    private Map<String, String> data;
+    private byte[] textLine;
+    private byte[] binaryFrame;
+    private final FrameDecoder textDecoder = new TextFrameDecoder();
+    private final FrameDecoder binaryDecoder = new BinaryProtocol.Decoder();
+
+    @Setup
+    public void buildMessage() {
+        List<String> words = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            words.add("단어" + i);
+        }
+        GameLogic logic = new GameLogic(null, words, null, null);
+        StringBuilder changes = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            int card = i * boardSize / 3;
+            int team = (card < boardSize / 2) ? 2 : 1; // 시작 팀의 반대 → 실제로 뒤집힘
+            int index = logic.applyWord(team, words.get(card));
+            if (index < 0) continue;
+            if (changes.length() > 0) changes.append('/');
+            changes.append(logic.toChangeString(index));
+        }
+
+        data = new HashMap<>();
+        data.put("roomId", "R1");
+        data.put("changes", changes.toString());
+        data.put("seq", String.valueOf(logic.getBoardSeq()));
+        data.put("owners", logic.toOwnersString());
+        data.put("score1", String.valueOf(logic.getScore1()));
+        data.put("score2", String.valueOf(logic.getScore2()));
+        data.put("timeLeft", "42");
+        data.put("timeLeftMs", "41234");
+
+        EncodedMessage message = EncodedMessage.of(Protocol.GAME_UPDATE, data);
+        textLine = message.getUtf8Line();
+        binaryFrame = message.getBinaryFrame();
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return EncodedMessage.of(Protocol.GAME_UPDATE, data).getUtf8Line();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return EncodedMessage.of(Protocol.GAME_UPDATE, data).getBinaryFrame();
+    }
+
+    @Benchmark
+    public int decodeText() throws IOException {
+        return readUpdate(textDecoder.next(ByteBuffer.wrap(textLine)));
+    }
+
+    @Benchmark
+    public int decodeBinary() throws IOException {
+        return readUpdate(binaryDecoder.next(ByteBuffer.wrap(binaryFrame)));
+    }
+
+    /**
+     * 클라이언트 onGameUpdate 가 읽는 필드를 같은 순서로 읽음
+     */
+    private static int readUpdate(Frame frame) {
+        MessageFields fields = frame.getFields();
+        return fields.get("changes").length()
+                + fields.get("owners").length()
+                + fields.getInt("score1")
+                + fields.getInt("score2")
+                + fields.getInt("timeLeftMs")
+                + fields.getInt("seq");
+    }
+}
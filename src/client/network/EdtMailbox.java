@@ -0,0 +1,57 @@
+package client.network;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * 수신 스레드 → EDT 로 넘기는 "최신 값 1칸" 우편함.
+ *
+ * 수신 스레드는 post() 로 값을 넣기만 하고, EDT 에는 처리 작업이 항상 최대 1개만 대기합니다.
+ * 그 작업이 실행될 때까지 더 들어온 값은 merge 로 합쳐지므로 (기본: 최신 값만 남김)
+ * 화면이 못 따라갈 만큼 메시지가 몰려도 오래된 상태가 EDT 대기열에 줄 서지 않습니다.
+ */
+final class EdtMailbox<T> {
+
+    private final AtomicReference<T> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final BinaryOperator<T> merge;
+    private final Consumer<T> apply;
+
+    /**
+     * 최신 값만 남기는 우편함
+     */
+    EdtMailbox(Consumer<T> apply) {
+        this((older, newer) -> newer, apply);
+    }
+
+    /**
+     * @param merge 아직 처리 안 된 값(older)과 새 값(newer)을 합치는 함수 (부작용 없어야 함: 재시도될 수 있음)
+     * @param apply EDT 에서 실행할 처리
+     */
+    EdtMailbox(BinaryOperator<T> merge, Consumer<T> apply) {
+        this.merge = merge;
+        this.apply = apply;
+    }
+
+    /**
+     * 아무 스레드에서나 호출. 기다리지 않음
+     */
+    void post(T value) {
+        pending.accumulateAndGet(value, (older, newer) -> (older == null) ? newer : merge.apply(older, newer));
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    private void drain() {
+        // 꺼내기 전에 플래그를 먼저 내림 → 꺼낸 뒤에 들어온 값은 새 작업으로 반드시 처리됨
+        scheduled.set(false);
+        T value = pending.getAndSet(null);
+        if (value != null) {
+            apply.accept(value);
+        }
+    }
+}
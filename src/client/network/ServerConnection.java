@@ -1,31 +1,73 @@
 package client.network;
 
-import java.awt.*;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
-import client.ui.CreateRoomDialog;
 import client.ui.MainFrame;
 import client.ui.LobbyPanel;
 import client.ui.RoomPanel;
 import client.ui.GamePanel;
 import client.ui.MessageDialog;
+import common.BinaryProtocol;
+import common.Frame;
+import common.FrameReader;
+import common.Log;
+import common.MessageDispatcher;
+import common.MessageFields;
 import common.Protocol;
+import common.TextFields;
+import common.TextFrameDecoder;
 
 public class ServerConnection {
     private Socket socket;
-    private PrintWriter out;
-    private BufferedReader in;
+    private OutputStream out;
+    private FrameReader reader;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean binary = false; // 서버와 바이너리 프로토콜 협상 성공 여부
     private final MainFrame mainFrame; // MainFrame 참조 유지
     private boolean isConnected = false;
 
     private static final int SERVER_PORT = 12345;
+    // -Dclient.codec=text 로 바이너리 프로토콜 요청을 끌 수 있음
+    private static final boolean REQUEST_BINARY =
+            !"text".equalsIgnoreCase(System.getProperty("client.codec", BinaryProtocol.CODEC_BINARY));
+
+    // 서버 메시지 타입 → 처리 메서드 (타입별 처리 횟수/시간 집계, 연결이 끊기면 DEBUG 로그로 출력)
+    private static final MessageDispatcher<ServerConnection> DISPATCHER =
+            new MessageDispatcher<ServerConnection>("클라이언트 수신")
+                    .on(Protocol.LOGIN_RES, ServerConnection::onLoginResponse)
+                    .on(Protocol.ROOM_LIST_RES, ServerConnection::onRoomList)
+                    .on(Protocol.ROOM_CREATE_RES, ServerConnection::onRoomCreateResponse)
+                    .on(Protocol.ROOM_JOIN_RES, ServerConnection::onRoomJoinResponse)
+                    .on(Protocol.ROOM_UPDATE, ServerConnection::onRoomUpdate)
+                    .on(Protocol.GAME_START, ServerConnection::onGameStart)
+                    .on(Protocol.GAME_UPDATE, ServerConnection::onGameUpdate)
+                    .on(Protocol.GAME_END, ServerConnection::onGameEnd)
+                    .on(Protocol.CHAT_MSG, ServerConnection::onChatMessage)
+                    .on(Protocol.ERROR, ServerConnection::onError);
+
+    /**
+     * ROOM_CREATE_RES 를 받을 곳 (방 만들기 창이 열려 있는 동안만 등록)
+     */
+    public interface RoomCreateListener {
+        void onRoomCreateResult(boolean success, String message);
+    }
+
+    private volatile RoomCreateListener roomCreateListener;
+
+    // 자주 오는 상태 메시지는 EDT 에 작업을 1개만 걸어 두고 최신 값만 반영
+    // (게임 변경분은 버리지 않고 합쳐서 한 번에, 로비 목록 / 방 상태는 마지막 값만)
+    private final EdtMailbox<GameUpdate> gameUpdates = new EdtMailbox<>(GameUpdate::merge, this::applyGameUpdate);
+    private final EdtMailbox<String> roomLists = new EdtMailbox<>(this::applyRoomList);
+    private final EdtMailbox<RoomState> roomStates = new EdtMailbox<>(this::applyRoomState);
 
     public ServerConnection(MainFrame mainFrame) {
         this.mainFrame = mainFrame;
@@ -37,8 +79,9 @@ public class ServerConnection {
     public boolean connect(String serverIp) {
         try {
             socket = new Socket(serverIp, SERVER_PORT);
-            out = new PrintWriter(socket.getOutputStream(), true);
-            in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            out = new BufferedOutputStream(socket.getOutputStream());
+            reader = new FrameReader(socket.getInputStream(), new TextFrameDecoder());
+            binary = false;
             isConnected = true;
 
             // 서버로부터 메시지를 계속 수신할 스레드 시작
@@ -64,6 +107,12 @@ public class ServerConnection {
      * 서버로 데이터를 전송하는 일반화된 메소드 (데이터가 Map 형태일 때)
      */
     public void sendMessage(String type, Map<String, String> data) {
+        if (binary) {
+            Log.wire(() -> "클라이언트 전송(binary): " + type + " " + data);
+            write(BinaryProtocol.encode(type, data));
+            return;
+        }
+
         StringBuilder dataStr = new StringBuilder();
         for (Map.Entry<String, String> entry : data.entrySet()) {
             dataStr.append(entry.getKey())
@@ -77,8 +126,8 @@ public class ServerConnection {
 
         String message = type + Protocol.DELIMITER + length + Protocol.DELIMITER + dataPayload;
 
-        System.out.println("클라이언트 전송: " + message);
-        out.println(message);
+        Log.wire(() -> "클라이언트 전송: " + message);
+        write((message + "\n").getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -86,9 +135,29 @@ public class ServerConnection {
      * 메시지 구조: TYPE|LENGTH|DATA
      */
     public void sendMessage(String type, int length, String data) {
+        if (binary) {
+            sendMessage(type, new TextFields(data).toMap());
+            return;
+        }
+
         String message = type + Protocol.DELIMITER + length + Protocol.DELIMITER + data;
-        System.out.println("클라이언트 전송: " + message);
-        out.println(message);
+        Log.wire(() -> "클라이언트 전송: " + message);
+        write((message + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 소켓에 바이트를 씁니다. (EDT, 수신 스레드 등 여러 곳에서 호출되므로 락으로 순서 보장)
+     */
+    private void write(byte[] bytes) {
+        writeLock.lock();
+        try {
+            out.write(bytes);
+            out.flush();
+        } catch (IOException e) {
+            Log.error("전송 실패: " + e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -96,13 +165,17 @@ public class ServerConnection {
      */
     public void sendLoginRequest(String playerName) {
         if (!isConnected) {
-            System.err.println("오류: 서버에 연결되어 있지 않습니다.");
+            Log.warn("서버에 연결되어 있지 않습니다.");
             return;
         }
 
         // LOGIN_REQ|데이터길이|playerName:이름
         Map<String, String> data = new HashMap<>();
         data.put("playerName", playerName);
+        if (REQUEST_BINARY) {
+            // 서버가 수락하면 LOGIN_RES 이후부터 바이너리 프로토콜 사용
+            data.put(BinaryProtocol.CODEC_FIELD, BinaryProtocol.CODEC_BINARY);
+        }
         sendMessage(Protocol.LOGIN_REQ, data);
     }
 
@@ -111,13 +184,12 @@ public class ServerConnection {
      */
     private void listenToServer() {
         try {
-            String rawMessage;
-            while ((rawMessage = in.readLine()) != null) {
-                System.out.println("클라이언트 수신: " + rawMessage);
-                handleServerMessage(rawMessage);
+            while (reader.readBatch(this::onServerFrame)) {
+                // 소켓 read 1번에 들어온 메시지들을 한꺼번에 처리
             }
         } catch (Exception e) {
-            System.err.println("서버 연결 끊김: " + e.getMessage());
+            Log.error("서버 연결 끊김: " + e.getMessage());
+            DISPATCHER.logStats();
             isConnected = false;
             mainFrame.updateStatus("연결 끊김");
         }
@@ -126,228 +198,294 @@ public class ServerConnection {
     /**
      * 서버 메시지를 처리하여 UI를 업데이트하는 로직
      */
-    private void handleServerMessage(String rawMessage) {
-        String[] parts = rawMessage.split("\\" + Protocol.DELIMITER, 3);
-        if (parts.length < 3) return;
-
-        String type = parts[0];
-        String dataPart = parts[2];
-
-        // 1. LOGIN_RES 처리 (성공/실패)
-        if (type.equals(Protocol.LOGIN_RES)) {
-            // status 필드에서 SUCCESS / FAIL 읽기
-            String status = getAttributeValue(dataPart, "status");
-
-            if ("SUCCESS".equals(status)) {
-                // 로그인 성공 케이스
-                String playerName = getAttributeValue(dataPart, "playerName");
-                String playerId   = getAttributeValue(dataPart, "playerId");
-
-                // UI 작업은 EDT에서 실행
-                SwingUtilities.invokeLater(() ->
-                        mainFrame.handleLoginSuccess(playerName, playerId)
-                );
-
-            } else {
-                // 로그인 실패 케이스 (닉네임 중복)
-                // 서버에서 reason 또는 message 둘 중 하나를 보낸다고 가정
-                String reason  = getAttributeValue(dataPart, "reason");   // 예: "DUPLICATE_NAME"
-                String message = getAttributeValue(dataPart, "message");  // 예: "닉네임이 이미 존재합니다"
-
-                // reason이 없으면 message를 reason처럼 사용
-                String reasonOrMessage = !"알 수 없음".equals(reason) ? reason : message;
-
-                // MainFrame에 실패 처리 위임
-                SwingUtilities.invokeLater(() ->
-                        mainFrame.handleLoginFailure(reasonOrMessage)
-                );
-            }
-            return;
-        }
+    private void onServerFrame(Frame frame) {
+        Log.wire(() -> "클라이언트 수신: " + frame);
+        DISPATCHER.dispatch(this, frame); // 그 외 타입은 일단 무시
+    }
 
+    public void setRoomCreateListener(RoomCreateListener listener) {
+        this.roomCreateListener = listener;
+    }
 
-        // 2. ROOM_LIST_RES 처리
-        if (type.equals(Protocol.ROOM_LIST_RES)) {
-            if (mainFrame.getCurrentPanel() instanceof LobbyPanel lobbyPanel) {
-                SwingUtilities.invokeLater(() -> lobbyPanel.updateRoomList(dataPart));
-            }
-            return;
+    /**
+     * listener 가 아직 등록된 상태일 때만 해제 (다른 창이 새로 등록한 것은 유지)
+     */
+    public void removeRoomCreateListener(RoomCreateListener listener) {
+        if (roomCreateListener == listener) {
+            roomCreateListener = null;
         }
+    }
 
-        // 3. ROOM_CREATE_RES 처리
-        if (type.equals(Protocol.ROOM_CREATE_RES)) {
-            String status  = getAttributeValue(dataPart, "status");
-            boolean success = status.equals("SUCCESS");
-            String message = success
-                    ? getAttributeValue(dataPart, "roomId")
-                    : getAttributeValue(dataPart, "message");
-
-            // 열려 있는 CreateRoomDialog 찾아서 응답 전달
-            for (Window window : Window.getWindows()) {
-                if (window instanceof CreateRoomDialog dialog && window.isShowing()) {
-                    dialog.handleCreationResponse(success, message);
-                    break;
-                }
+    /**
+     * 1. LOGIN_RES 처리 (성공/실패)
+     */
+    private void onLoginResponse(MessageFields fields) {
+        // status 필드에서 SUCCESS / FAIL 읽기
+        String status = fields.get("status");
+
+        if ("SUCCESS".equals(status)) {
+            // 서버가 바이너리 프로토콜을 수락했으면 다음 메시지부터 전환 (수신 스레드에서 바로 처리)
+            if (BinaryProtocol.CODEC_BINARY.equals(fields.get(BinaryProtocol.CODEC_FIELD))) {
+                reader.setDecoder(new BinaryProtocol.Decoder());
+                binary = true;
             }
-            return;
-        }
 
-     // 4. ROOM_JOIN_RES 처리 (성공/실패 안내만)
-        if (type.equals(Protocol.ROOM_JOIN_RES)) {
-            String status = getAttributeValue(dataPart, "status");
-            if (status.equals("SUCCESS")) {
-            	 if (mainFrame.getCurrentPanel() instanceof LobbyPanel) {
-                     SwingUtilities.invokeLater(() ->
-                             MessageDialog.showInfo(
-                                     mainFrame,
-                                     "알림",
-                                     "방 입장 성공!"
-                             )
-                     );
-                 }
-            } else {
-                String message = getAttributeValue(dataPart, "message");
-                SwingUtilities.invokeLater(() ->
-                        MessageDialog.showError(
-                                mainFrame,
-                                "오류",
-                                "방 입장 실패: " + message
-                        )
-                );
-            }
-            return;
-        }
+            // 로그인 성공 케이스
+            String playerName = fields.get("playerName");
+            String playerId   = fields.get("playerId");
 
-        // 5. ROOM_UPDATE 처리 (방 상태 동기화)
-        if (type.equals(Protocol.ROOM_UPDATE)) {
-            String playersString = getAttributeValue(dataPart, "players");
-            String roomId        = getAttributeValue(dataPart, "roomId");
-            String roomName      = getAttributeValue(dataPart, "roomName");
-            String roomCreatorId = getAttributeValue(dataPart, "roomCreatorId");
-
-            SwingUtilities.invokeLater(() -> {
-                if (mainFrame.getCurrentPanel() instanceof LobbyPanel) {
-                    // 로비에서 받으면 RoomPanel로 전환
-                    mainFrame.switchToRoom(roomId, roomName, playersString, roomCreatorId);
-                } else if (mainFrame.getCurrentPanel() instanceof RoomPanel roomPanel) {
-                    // 방 화면에서는 목록만 갱신
-                    roomPanel.updateRoomState(roomId, roomName, playersString, roomCreatorId);
-                }
-            });
-            return;
-        }
+            // UI 작업은 EDT에서 실행
+            SwingUtilities.invokeLater(() ->
+                    mainFrame.handleLoginSuccess(playerName, playerId)
+            );
 
-        // 6. GAME_START 처리 (초기 보드 + 제한 시간 → WaitingPanel로)
-        if (type.equals(Protocol.GAME_START)) {
-            // 서버는 board:..., timeLimit:... 을 보냄
-            String boardString = getAttributeValue(dataPart, "board");
-            try {
-                int timeLimit = Integer.parseInt(getAttributeValue(dataPart, "timeLimit"));
-                // 3초 카운트다운용 WaitingPanel로 먼저 전환
-                SwingUtilities.invokeLater(() -> mainFrame.switchToWaiting(boardString, timeLimit));
-            } catch (NumberFormatException ignored) {}
-            return;
-        }
+        } else {
+            // 로그인 실패 케이스 (닉네임 중복)
+            // 서버에서 reason 또는 message 둘 중 하나를 보낸다고 가정
+            String reason  = fields.get("reason");   // 예: "DUPLICATE_NAME"
+            String message = fields.get("message");  // 예: "닉네임이 이미 존재합니다"
 
+            // reason이 없으면 message를 reason처럼 사용
+            String reasonOrMessage = !MessageFields.UNKNOWN.equals(reason) ? reason : message;
 
-        // 7. WORD_CAPTURE 처리 (특정 인덱스 단어를 누가 뺏었는지)
-//        if (type.equals(Protocol.WORD_CAPTURE)) {
-//            if (mainFrame.getCurrentPanel() instanceof GamePanel gamePanel) {
-//                try {
-//                    int index      = Integer.parseInt(getAttributeValue(dataPart, "wordIndex"));
-//                    int team       = Integer.parseInt(getAttributeValue(dataPart, "team"));
-//                    String capturedBy = getAttributeValue(dataPart, "capturedBy");
-//                    int points     = Integer.parseInt(getAttributeValue(dataPart, "points"));
-//
-//                    SwingUtilities.invokeLater(() ->
-//                            gamePanel.updateWordCapture(index, team, capturedBy, points)
-//                    );
-//                } catch (NumberFormatException ignored) {}
-//            }
-//            return;
-//        }
-
-        // 8. GAME_UPDATE 처리 (보드/점수/남은시간 동기화)
-        if (type.equals(Protocol.GAME_UPDATE)) {
-            if (mainFrame.getCurrentPanel() instanceof GamePanel gamePanel) {
-                try {
-                    String boardString = getAttributeValue(dataPart, "board");
-                    int score1   = Integer.parseInt(getAttributeValue(dataPart, "score1"));
-                    int score2   = Integer.parseInt(getAttributeValue(dataPart, "score2"));
-                    int timeLeft = Integer.parseInt(getAttributeValue(dataPart, "timeLeft"));
-
-                    SwingUtilities.invokeLater(() ->
-                            gamePanel.updateGameState(boardString, score1, score2, timeLeft)
-                    );
-                } catch (NumberFormatException ignored) {}
-            }
-            return;
+            // MainFrame에 실패 처리 위임
+            SwingUtilities.invokeLater(() ->
+                    mainFrame.handleLoginFailure(reasonOrMessage)
+            );
         }
+    }
 
+    /**
+     * 2. ROOM_LIST_RES 처리
+     */
+    private void onRoomList(MessageFields fields) {
+        // list 값 안에 ';' 가 들어 있으므로 끝까지 읽음
+        roomLists.post(fields.getRest("list"));
+    }
 
+    /**
+     * 3. ROOM_CREATE_RES 처리
+     */
+    private void onRoomCreateResponse(MessageFields fields) {
+        String status  = fields.get("status");
+        boolean success = status.equals("SUCCESS");
+        String message = success
+                ? fields.get("roomId")
+                : fields.get("message");
+
+        // 등록된 방 만들기 창에 응답 전달 (창 목록을 뒤지지 않음)
+        RoomCreateListener listener = roomCreateListener;
+        if (listener != null) {
+            listener.onRoomCreateResult(success, message);
+        }
+    }
 
-        // 9. GAME_END 처리 (게임 종료 → GameEndPanel)
-        if (type.equals(Protocol.GAME_END)) {
-            try {
-                String winner = getAttributeValue(dataPart, "winner");      // "1", "2", "DRAW"
+    /**
+     * 4. ROOM_JOIN_RES 처리 (성공/실패 안내만)
+     */
+    private void onRoomJoinResponse(MessageFields fields) {
+        String status = fields.get("status");
+        if (status.equals("SUCCESS")) {
+        	 if (mainFrame.getCurrentPanel() instanceof LobbyPanel) {
+                 SwingUtilities.invokeLater(() ->
+                         MessageDialog.showInfo(
+                                 mainFrame,
+                                 "알림",
+                                 "방 입장 성공!"
+                         )
+                 );
+             }
+        } else {
+            String message = fields.get("message");
+            SwingUtilities.invokeLater(() ->
+                    MessageDialog.showError(
+                            mainFrame,
+                            "오류",
+                            "방 입장 실패: " + message
+                    )
+            );
+        }
+    }
 
-                int score1 = Integer.parseInt(getAttributeValue(dataPart, "score1"));
-                int score2 = Integer.parseInt(getAttributeValue(dataPart, "score2"));
-                String mvp = getAttributeValue(dataPart, "mvp");
+    /**
+     * 5. ROOM_UPDATE 처리 (방 상태 동기화)
+     */
+    private void onRoomUpdate(MessageFields fields) {
+        roomStates.post(new RoomState(
+                fields.get("roomId"),
+                fields.get("roomName"),
+                fields.get("players"),
+                fields.get("roomCreatorId")));
+    }
 
-                SwingUtilities.invokeLater(() ->
-                        mainFrame.switchToGameEnd(winner, score1, score2, mvp)
-                );
-            } catch (NumberFormatException ignored) {}
-            return;
-        }
+    /**
+     * 6. GAME_START 처리 (초기 보드 + 제한 시간 → WaitingPanel로)
+     */
+    private void onGameStart(MessageFields fields) {
+        // 서버는 board:..., timeLimit:..., timeLeftMs:... 을 보냄
+        String boardString = fields.get("board");
+        try {
+            int timeLimit = fields.getInt("timeLimit");
+            // 종료 시각은 받은 즉시 내 시계(nanoTime) 기준으로 고정 (timeLeftMs 가 없으면 제한시간 전체)
+            int timeLeftMs = fields.has("timeLeftMs") ? fields.getInt("timeLeftMs") : timeLimit * 1000;
+            long deadlineNanos = System.nanoTime() + timeLeftMs * 1_000_000L;
+            // 3초 카운트다운용 WaitingPanel로 먼저 전환
+            SwingUtilities.invokeLater(() -> mainFrame.switchToWaiting(boardString, timeLimit, deadlineNanos));
+        } catch (NumberFormatException ignored) {}
+    }
 
-        // ★ 9-1. CHAT_MSG 처리 (방 채팅)
-        if (type.equals(Protocol.CHAT_MSG)) {
-            String senderName = getAttributeValue(dataPart, "senderName");
-            String message    = getAttributeValue(dataPart, "message");
+    /**
+     * 8. GAME_UPDATE 처리 (바뀐 카드/점수/남은시간 동기화)
+     */
+    private void onGameUpdate(MessageFields fields) {
+        try {
+            // changes: 바뀐 카드만 / owners + seq: 주기적 전체 스냅샷 (둘 다 없을 수도 있음)
+            String changes = fields.get("changes");
+            String owners  = fields.get("owners");
+            int score1   = fields.getInt("score1");
+            int score2   = fields.getInt("score2");
+            // timeLeftMs 가 없으면 (이전 서버) 초 단위 timeLeft 로
+            int timeLeftMs = fields.has("timeLeftMs")
+                    ? fields.getInt("timeLeftMs")
+                    : fields.getInt("timeLeft") * 1000;
+            int seq = MessageFields.UNKNOWN.equals(owners) ? 0 : fields.getInt("seq");
+
+            gameUpdates.post(new GameUpdate(
+                    score1, score2, timeLeftMs,
+                    MessageFields.UNKNOWN.equals(changes) ? null : changes,
+                    MessageFields.UNKNOWN.equals(owners) ? null : owners,
+                    seq));
+        } catch (NumberFormatException ignored) {}
+    }
 
-            SwingUtilities.invokeLater(() -> {
-                if (mainFrame.getCurrentPanel() instanceof RoomPanel roomPanel) {
-                    roomPanel.appendChatMessage(senderName, message);
-                }
-            });
-            return;
-        }
+    /**
+     * 9. GAME_END 처리 (게임 종료 → GameEndPanel)
+     */
+    private void onGameEnd(MessageFields fields) {
+        try {
+            String winner = fields.get("winner");      // "1", "2", "DRAW"
 
+            int score1 = fields.getInt("score1");
+            int score2 = fields.getInt("score2");
+            String mvp = fields.get("mvp");
 
-        // 10. ERROR 처리
-        if (type.equals(Protocol.ERROR)) {
-            String code    = getAttributeValue(dataPart, "code");
-            String message = getAttributeValue(dataPart, "message");
             SwingUtilities.invokeLater(() ->
-                    JOptionPane.showMessageDialog(
-                            mainFrame,
-                            "오류 [" + code + "]: " + message,
-                            "게임 오류",
-                            JOptionPane.ERROR_MESSAGE
-                    )
+                    mainFrame.switchToGameEnd(winner, score1, score2, mvp)
             );
-            return;
+        } catch (NumberFormatException ignored) {}
+    }
+
+    /**
+     * ★ 9-1. CHAT_MSG 처리 (방 채팅)
+     */
+    private void onChatMessage(MessageFields fields) {
+        String senderName = fields.get("senderName");
+        String message    = fields.get("message");
+
+        SwingUtilities.invokeLater(() -> {
+            if (mainFrame.getCurrentPanel() instanceof RoomPanel roomPanel) {
+                roomPanel.appendChatMessage(senderName, message);
+            }
+        });
+    }
+
+    /**
+     * 10. ERROR 처리
+     */
+    private void onError(MessageFields fields) {
+        String code    = fields.get("code");
+        String message = fields.get("message");
+        SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(
+                        mainFrame,
+                        "오류 [" + code + "]: " + message,
+                        "게임 오류",
+                        JOptionPane.ERROR_MESSAGE
+                )
+        );
+    }
+
+    // ================== EDT 우편함 처리 (EDT) ==================
+
+    private void applyGameUpdate(GameUpdate update) {
+        if (!(mainFrame.getCurrentPanel() instanceof GamePanel gamePanel)) return;
+
+        gamePanel.updateGameState(update.score1, update.score2, update.timeLeftMs);
+        // 스냅샷을 먼저 깔고 변경분을 얹음 (카드별 순번 비교로 오래된 쪽은 무시됨)
+        if (update.owners != null) {
+            gamePanel.applyBoardSnapshot(update.owners, update.seq);
+        }
+        if (update.changes != null) {
+            gamePanel.applyBoardDelta(update.changes);
         }
+    }
 
-        // 그 외 타입은 일단 무시
+    private void applyRoomList(String listData) {
+        if (mainFrame.getCurrentPanel() instanceof LobbyPanel lobbyPanel) {
+            lobbyPanel.updateRoomList(listData);
+        }
     }
 
+    private void applyRoomState(RoomState state) {
+        if (mainFrame.getCurrentPanel() instanceof LobbyPanel) {
+            // 로비에서 받으면 RoomPanel로 전환
+            mainFrame.switchToRoom(state.roomId, state.roomName, state.players, state.roomCreatorId);
+        } else if (mainFrame.getCurrentPanel() instanceof RoomPanel roomPanel) {
+            // 방 화면에서는 목록만 갱신
+            roomPanel.updateRoomState(state.roomId, state.roomName, state.players, state.roomCreatorId);
+        }
+    }
 
     /**
-     * 데이터 문자열에서 특정 속성 값 추출 (단순 파싱)
+     * 아직 EDT 에 반영 안 된 GAME_UPDATE (여러 개가 오면 merge 로 1개로 합쳐짐)
      */
-    private String getAttributeValue(String data, String key) {
-        String pattern = key + Protocol.FIELD_SEPARATOR;
-        int start = data.indexOf(pattern);
-        if (start != -1) {
-            start += pattern.length();
-            int end = data.indexOf(Protocol.DATA_SEPARATOR, start);
-            return (end != -1) ? data.substring(start, end) : data.substring(start);
+    private static final class GameUpdate {
+        final int score1;
+        final int score2;
+        final int timeLeftMs;
+        final String changes; // "인덱스,팀,순번/..." 또는 null
+        final String owners;  // 스냅샷 또는 null
+        final int seq;
+
+        GameUpdate(int score1, int score2, int timeLeftMs, String changes, String owners, int seq) {
+            this.score1 = score1;
+            this.score2 = score2;
+            this.timeLeftMs = timeLeftMs;
+            this.changes = changes;
+            this.owners = owners;
+            this.seq = seq;
         }
-        return "알 수 없음";
-    }
 
+        /**
+         * 점수/시간/스냅샷은 최신 값, 카드 변경분은 이어 붙여 하나도 버리지 않음
+         */
+        static GameUpdate merge(GameUpdate older, GameUpdate newer) {
+            String changes;
+            if (older.changes == null) changes = newer.changes;
+            else if (newer.changes == null) changes = older.changes;
+            else changes = older.changes + "/" + newer.changes;
+
+            boolean newerSnapshot = newer.owners != null;
+            return new GameUpdate(newer.score1, newer.score2, newer.timeLeftMs, changes,
+                    newerSnapshot ? newer.owners : older.owners,
+                    newerSnapshot ? newer.seq : older.seq);
+        }
+    }
 
+    /**
+     * 아직 EDT 에 반영 안 된 ROOM_UPDATE (마지막 값만 의미 있음)
+     */
+    private static final class RoomState {
+        final String roomId;
+        final String roomName;
+        final String players;
+        final String roomCreatorId;
+
+        RoomState(String roomId, String roomName, String players, String roomCreatorId) {
+            this.roomId = roomId;
+            this.roomName = roomName;
+            this.players = players;
+            this.roomCreatorId = roomCreatorId;
+        }
+    }
 }
\ No newline at end of file
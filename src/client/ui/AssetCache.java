@@ -0,0 +1,161 @@
+package client.ui;
+
+import common.Log;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클라이언트 공용 이미지 / 폰트 캐시.
+ *
+ * - 리소스 이미지는 처음 요청될 때 1번만 읽고, 화면 픽셀 형식과 같은 호환 이미지로 바꿔 둡니다.
+ *   (호환 이미지는 Java2D 가 그래픽 메모리에 올려 두고 재사용 → 그릴 때 형식 변환 없음)
+ * - 크기를 바꾼 이미지는 (경로, 가로, 세로) 별로 미리 만들어 두고 그대로 그립니다.
+ *   → paintComponent 마다 1600x900 원본을 다시 늘리거나 줄이지 않음
+ * - 창 크기가 바뀌면 evictScaled() 로 크기별 사본만 비웁니다. 원본은 유지.
+ * - 폰트 파일도 경로별로 1번만 읽고, 크기별 글꼴은 deriveFont 로 만듭니다.
+ *
+ * EDT 외의 스레드(정적 초기화 등)에서도 부를 수 있도록 메서드는 synchronized.
+ */
+public final class AssetCache {
+
+    private static final int MAX_SCALED = 32; // 크기별 사본 최대 개수 (창을 끌어서 늘리는 동안 쌓이지 않도록)
+
+    private static final Map<String, BufferedImage> images = new HashMap<>();
+    private static final Map<String, Font> fonts = new HashMap<>();
+    // 접근 순서 LRU: 가장 오래 안 쓴 크기부터 버림
+    private static final Map<String, BufferedImage> scaled = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+            return size() > MAX_SCALED;
+        }
+    };
+
+    private AssetCache() {}
+
+    /**
+     * 원본 크기 이미지 (없으면 null)
+     */
+    public static synchronized BufferedImage image(String path) {
+        if (images.containsKey(path)) {
+            return images.get(path);
+        }
+
+        BufferedImage loaded = null;
+        URL url = AssetCache.class.getResource(path);
+        if (url == null) {
+            Log.warn("이미지 리소스를 찾을 수 없음: " + path);
+        } else {
+            try {
+                BufferedImage raw = ImageIO.read(url);
+                if (raw != null) {
+                    loaded = toCompatible(raw, raw.getWidth(), raw.getHeight());
+                }
+            } catch (Exception e) {
+                Log.warn("이미지 로드 실패: " + path + " / " + e.getMessage());
+            }
+        }
+        images.put(path, loaded); // 실패도 기억해서 매번 다시 읽지 않음
+        return loaded;
+    }
+
+    /**
+     * width x height 로 미리 맞춰 둔 이미지 (없으면 null)
+     */
+    public static synchronized BufferedImage scaled(String path, int width, int height) {
+        if (width <= 0 || height <= 0) return null;
+
+        String key = path + '@' + width + 'x' + height;
+        BufferedImage cached = scaled.get(key);
+        if (cached != null) return cached;
+
+        BufferedImage source = image(path);
+        if (source == null) return null;
+
+        BufferedImage result = (source.getWidth() == width && source.getHeight() == height)
+                ? source
+                : scale(source, width, height);
+        scaled.put(key, result);
+        return result;
+    }
+
+    /**
+     * 창 크기가 바뀌었을 때: 크기별 사본만 비움 (다음 paint 에서 새 크기로 1번 다시 만듦)
+     */
+    public static synchronized void evictScaled() {
+        scaled.clear();
+    }
+
+    /**
+     * TTF 폰트 파일을 1번만 읽어 size 크기로 (없거나 실패하면 null)
+     */
+    public static synchronized Font font(String path, float size) {
+        Font base;
+        if (fonts.containsKey(path)) {
+            base = fonts.get(path);
+        } else {
+            base = null;
+            try (InputStream is = AssetCache.class.getResourceAsStream(path)) {
+                if (is == null) {
+                    Log.warn("폰트 리소스를 찾을 수 없음: " + path);
+                } else {
+                    base = Font.createFont(Font.TRUETYPE_FONT, is);
+                }
+            } catch (Exception e) {
+                Log.warn("폰트 로드 실패: " + path + " / " + e.getMessage());
+            }
+            fonts.put(path, base);
+        }
+        return (base == null) ? null : base.deriveFont(size);
+    }
+
+    // ================== 내부 ==================
+
+    /**
+     * 부드럽게 줄이기 (SCALE_SMOOTH 대신): 절반 이하로 줄일 때는 반씩 여러 번 → 계단 현상 방지
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        do {
+            w = (w / 2 >= width) ? w / 2 : width;
+            h = (h / 2 >= height) ? h / 2 : height; // 확대하는 경우는 한 번에 목표 크기로
+
+            BufferedImage next = createCompatible(w, h, source.getTransparency());
+            Graphics2D g2 = next.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(current, 0, 0, w, h, null);
+            g2.dispose();
+            current = next;
+        } while (w != width || h != height);
+
+        return current;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage raw, int width, int height) {
+        BufferedImage copy = createCompatible(width, height, raw.getTransparency());
+        Graphics2D g2 = copy.createGraphics();
+        g2.drawImage(raw, 0, 0, null);
+        g2.dispose();
+        return copy;
+    }
+
+    private static BufferedImage createCompatible(int width, int height, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        int type = (transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        return new BufferedImage(width, height, type);
+    }
+}
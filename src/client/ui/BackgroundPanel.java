@@ -5,10 +5,13 @@ import java.awt.*;
 
 public class BackgroundPanel extends JPanel {
 
-    private Image backgroundImage;
+    private final String imagePath;
 
-    public BackgroundPanel(Image backgroundImage) {
-        this.backgroundImage = backgroundImage;
+    /**
+     * @param imagePath 배경 리소스 경로 (예: "/tg_start1.png"). 실제 이미지는 AssetCache 가 1번만 읽음
+     */
+    public BackgroundPanel(String imagePath) {
+        this.imagePath = imagePath;
         // 안에 다른 컴포넌트를 얹어야 하니까 레이아웃은 그대로 씀
         setLayout(new BorderLayout());
     }
@@ -17,9 +20,10 @@ public class BackgroundPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
+        // 패널 크기에 맞게 미리 줄여 둔 사본을 그대로 그림 (paint 마다 1600x900 원본을 다시 늘리지 않음)
+        Image backgroundImage = AssetCache.scaled(imagePath, getWidth(), getHeight());
         if (backgroundImage != null) {
-            // 패널 크기에 맞게 이미지 채우기 (1600x900 전부)
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+            g.drawImage(backgroundImage, 0, 0, this);
         }
     }
 }
@@ -0,0 +1,175 @@
+package client.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * 인게임 카드 보드를 컴포넌트 1개로 직접 그리는 캔버스.
+ * - 카드별 점령 팀은 int 배열 하나로만 들고 있음 (카드마다 JLabel / Color 객체를 만들지 않음)
+ * - 단어 글자 모양(GlyphVector)은 글꼴 크기가 바뀔 때만 다시 만들고 그 외에는 재사용
+ * - 카드가 뒤집히면 그 카드 칸만 repaint → 보드 전체 레이아웃/다시 그리기 없음
+ * - 그릴 때도 clip 영역에 걸친 행/열만 돌기 때문에 카드가 수백 장이어도 부담이 적음
+ */
+public class BoardCanvas extends JComponent {
+
+    private static final int GAP = 12;          // 카드 사이 간격
+    private static final int MIN_COLS = 6;      // 30장 기준 6 x 5
+    private static final int ARC = 10;          // 카드 모서리
+    private static final float MAX_FONT_SIZE = 18f;
+    private static final float MIN_FONT_SIZE = 9f;
+
+    private static final Color TEAM1_COLOR = new Color(255, 220, 220);   // 1팀(빨강)
+    private static final Color TEAM2_COLOR = new Color(220, 220, 255);   // 2팀(파랑)
+    private static final Color NEUTRAL_COLOR = Color.WHITE;              // 미점령
+    private static final Color BORDER_COLOR = new Color(200, 200, 200);
+    private static final Color TEXT_COLOR = Color.DARK_GRAY;
+
+    private String[] words = new String[0];
+    private int[] owners = new int[0];
+    private int cols = MIN_COLS;
+    private int rows = 0;
+
+    // 크기가 바뀔 때만 다시 계산하는 칸 크기 / 글자 캐시 (EDT 에서만 접근)
+    private int layoutWidth = -1;
+    private int layoutHeight = -1;
+    private int cellWidth;
+    private int cellHeight;
+    private Font cachedFont;
+    private GlyphVector[] glyphs = new GlyphVector[0];
+    private Rectangle2D[] glyphBounds = new Rectangle2D[0];
+
+    public BoardCanvas() {
+        setOpaque(false);
+    }
+
+    /**
+     * 카드 목록 설정 (게임 시작 시 1번)
+     *
+     * @param words  카드 단어 (순서 = 카드 인덱스)
+     * @param owners 카드별 처음 점령 팀 (복사해서 보관)
+     */
+    public void setCards(String[] words, int[] owners) {
+        this.words = words.clone();
+        this.owners = owners.clone();
+        this.cols = Math.max(MIN_COLS, (int) Math.ceil(Math.sqrt(words.length)));
+        this.rows = (int) Math.ceil(words.length / (double) cols);
+        this.layoutWidth = -1; // 다음 paint 에서 칸 크기 / 글자 다시 계산
+        this.cachedFont = null;
+        repaint();
+    }
+
+    public int getCardCount() {
+        return words.length;
+    }
+
+    public int getOwner(int index) {
+        return owners[index];
+    }
+
+    /**
+     * 카드 1장의 점령 팀 변경. 실제로 바뀐 경우에만 그 카드 칸을 다시 그림
+     */
+    public void setOwner(int index, int team) {
+        if (index < 0 || index >= owners.length || owners[index] == team) return;
+        owners[index] = team;
+        updateLayout();
+        repaint(cellX(index), cellY(index), cellWidth, cellHeight);
+    }
+
+    // ================== 배치 ==================
+
+    private void updateLayout() {
+        int w = getWidth();
+        int h = getHeight();
+        if (w == layoutWidth && h == layoutHeight) return;
+
+        layoutWidth = w;
+        layoutHeight = h;
+        cellWidth = Math.max(1, (w - GAP * (cols - 1)) / cols);
+        cellHeight = (rows == 0) ? 1 : Math.max(1, (h - GAP * (rows - 1)) / rows);
+
+        // 칸이 작아지면 글꼴도 줄임 → 크기가 실제로 달라졌을 때만 글자 캐시를 버림
+        float size = Math.max(MIN_FONT_SIZE, Math.min(MAX_FONT_SIZE, cellHeight * 0.45f));
+        if (cachedFont == null || cachedFont.getSize2D() != size) {
+            cachedFont = UITheme.NORMAL_FONT.deriveFont(size);
+            glyphs = new GlyphVector[words.length];
+            glyphBounds = new Rectangle2D[words.length];
+        }
+    }
+
+    private int cellX(int index) {
+        return (index % cols) * (cellWidth + GAP);
+    }
+
+    private int cellY(int index) {
+        return (index / cols) * (cellHeight + GAP);
+    }
+
+    // ================== 그리기 ==================
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (words.length == 0) return;
+        updateLayout();
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontRenderContext frc = g2.getFontRenderContext();
+
+        // clip 에 걸친 행/열 범위만 그림 (카드 1장 repaint 면 1장만)
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int firstCol = Math.max(0, clip.x / (cellWidth + GAP));
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width) / (cellWidth + GAP));
+        int firstRow = Math.max(0, clip.y / (cellHeight + GAP));
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height) / (cellHeight + GAP));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = row * cols + col;
+                if (index >= words.length) break;
+                paintCard(g2, frc, index);
+            }
+        }
+        g2.dispose();
+    }
+
+    private void paintCard(Graphics2D g2, FontRenderContext frc, int index) {
+        int x = cellX(index);
+        int y = cellY(index);
+
+        g2.setColor(colorOf(owners[index]));
+        g2.fillRoundRect(x, y, cellWidth - 1, cellHeight - 1, ARC, ARC);
+        g2.setColor(BORDER_COLOR);
+        g2.drawRoundRect(x, y, cellWidth - 1, cellHeight - 1, ARC, ARC);
+
+        GlyphVector glyph = glyphs[index];
+        if (glyph == null) {
+            glyph = cachedFont.createGlyphVector(frc, words[index]);
+            glyphs[index] = glyph;
+            glyphBounds[index] = glyph.getLogicalBounds();
+        }
+        Rectangle2D bounds = glyphBounds[index];
+
+        // 가운데 정렬 (칸보다 긴 단어는 칸 밖으로 넘치지 않게 잘라서)
+        float textX = (float) (x + (cellWidth - bounds.getWidth()) / 2 - bounds.getX());
+        float textY = (float) (y + (cellHeight - bounds.getHeight()) / 2 - bounds.getY());
+        Shape oldClip = g2.getClip();
+        g2.clipRect(x, y, cellWidth, cellHeight);
+        g2.setColor(TEXT_COLOR);
+        g2.drawGlyphVector(glyph, textX, textY);
+        g2.setClip(oldClip);
+    }
+
+    private static Color colorOf(int team) {
+        return switch (team) {
+            case 1 -> TEAM1_COLOR;
+            case 2 -> TEAM2_COLOR;
+            default -> NEUTRAL_COLOR;
+        };
+    }
+}
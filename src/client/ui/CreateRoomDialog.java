@@ -14,11 +14,15 @@ public class CreateRoomDialog extends JDialog {
     private JComboBox<Integer> maxPlayersComboBox;
     private JButton createButton;
 
+    // 서버 응답을 받을 리스너 (창이 닫히면 해제)
+    private final ServerConnection.RoomCreateListener createListener = this::handleCreationResponse;
+
     public CreateRoomDialog(JFrame parent, LobbyPanel lobbyPanel, ServerConnection connection) {
         // 타이틀바를 없애고, 부모 중앙에 뜨는 모달 다이얼로그
         super(parent, true);
         this.lobbyPanel = lobbyPanel;
         this.connection = connection;
+        connection.setRoomCreateListener(createListener);
 
         setUndecorated(true);                 // 뒷 배경 투명화
         setBackground(new Color(0, 0, 0, 0)); 
@@ -169,6 +173,12 @@ public class CreateRoomDialog extends JDialog {
         createButton.setEnabled(false); // 응답 기다리는 동안 비활성화
     }
 
+    @Override
+    public void dispose() {
+        connection.removeRoomCreateListener(createListener);
+        super.dispose();
+    }
+
     // 서버 응답 처리 후 팝업을 닫고 로비 목록을 새로고침
     public void handleCreationResponse(boolean success, String message) {
         SwingUtilities.invokeLater(() -> {
@@ -12,7 +12,6 @@ public class GameEndPanel extends JPanel {
 
     private final MainFrame mainFrame;
     private final ServerConnection connection;  // 서버 연결
-    private final String myPlayerId;            // 내 플레이어 ID
 
     private JLabel resultLabel;     // "1팀 승리!" / "2팀 승리!" / "무승부"
     private JLabel scoreLabel;      // "최종 스코어: 1팀 15점 vs 2팀 13점"
@@ -21,21 +20,15 @@ public class GameEndPanel extends JPanel {
     private JLabel team2Label;      // 오른쪽 팀 점수
 
     public GameEndPanel(MainFrame mainFrame,
-                        ServerConnection connection,
-                        String myPlayerId) {
+                        ServerConnection connection) {
         this.mainFrame = mainFrame;
         this.connection = connection;
-        this.myPlayerId = myPlayerId;
 
         setLayout(new BorderLayout());
         setOpaque(false);
 
         // ==== 배경 (칠판 이미지) ====
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start1.png")
-        ).getImage();
-
-        BackgroundPanel root = new BackgroundPanel(bgImage);
+        BackgroundPanel root = new BackgroundPanel("/tg_start1.png");
         root.setLayout(new BorderLayout());
         add(root, BorderLayout.CENTER);
 
@@ -127,7 +120,7 @@ public class GameEndPanel extends JPanel {
         backButton.setPreferredSize(new Dimension(260, 60));
         backButton.addActionListener(e -> {
             Map<String, String> data = new HashMap<>();
-            data.put("playerId", myPlayerId);
+            data.put("playerId", mainFrame.getPlayerId()); // 패널을 재사용하므로 누를 때의 ID
             connection.sendMessage(Protocol.ROOM_LEAVE_REQ, data);
 
             mainFrame.switchToLobby();
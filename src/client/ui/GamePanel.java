@@ -15,25 +15,30 @@ import java.util.Map;
 /**
  * 인게임 화면 패널
  * - 서버에서 받은 단어 보드를 칠판 위 카드처럼 표시
- * - 상단 타임바 (남은 시간에 따라 색/길이 줄어듦)
+ * - 상단 타임바 (남은 시간에 따라 색/길이 줄어듦, 종료 시각 기준으로 클라이언트가 직접 움직임)
  * - 좌우 팀 점수 패널
  * - 하단 입력창에서 단어 입력
  */
 public class GamePanel extends JPanel {
 
     private final ServerConnection connection;
-    private final String myPlayerId;
+    private String myPlayerId; // 패널을 재사용하므로 판마다 initializeGame 에서 다시 설정
 
     // 내 팀 번호 (1, 2, 0: 미지정)
     private int myTeam = 0;
 
     // ===== 상단 타이머바 =====
+    private static final int CLOCK_FRAME_MS = 33;       // 타이머 바 다시 그리는 간격 (약 30fps)
+    private static final long RESYNC_TOLERANCE_MS = 100; // 서버 값과 이만큼 넘게 어긋날 때만 종료 시각 보정
+
     private TimerBar timerBar;
-    private int maxTime = 0; // 처음 updateGameState 들어온 timeLeft를 기준으로 설정
+    private int maxTime = 0;        // 전체 게임 시간 (ms). startClock 이 없으면 처음 들어온 timeLeftMs
+    private long deadlineNanos = 0; // 게임 종료 시각 (System.nanoTime 기준), 0 이면 아직 모름
+    private Timer clockTimer;       // javax.swing.Timer: EDT 에서 타이머 바만 갱신
 
     // ===== 칠판 위 카드 보드 =====
-    private JPanel boardPanel;
-    private JLabel[] wordLabels;
+    private BoardCanvas board; // 카드 전체를 직접 그리는 컴포넌트 1개 (점령 팀 배열도 여기서 관리)
+    private int[] cardSeqs;    // 카드별 마지막 반영 순번 (늦게 도착한 오래된 변경 무시용)
 
     // ===== 좌/우 점수 패널 =====
     private ScorePanel team1ScorePanel;
@@ -57,11 +62,7 @@ public class GamePanel extends JPanel {
         setOpaque(false);
 
         // ==== 배경 이미지 (로비/방과 동일 tg_start1.png) ====
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start1.png")
-        ).getImage();
-
-        BackgroundPanel root = new BackgroundPanel(bgImage);
+        BackgroundPanel root = new BackgroundPanel("/tg_start1.png");
         root.setLayout(new BorderLayout());
         add(root, BorderLayout.CENTER);
 
@@ -92,9 +93,8 @@ public class GamePanel extends JPanel {
         centerWrapper.add(team2ScorePanel, BorderLayout.EAST);
 
         // 중앙 카드 보드 (칠판 안의 카드들)
-        boardPanel = new JPanel();
-        boardPanel.setOpaque(false);
-        centerWrapper.add(boardPanel, BorderLayout.CENTER);
+        board = new BoardCanvas();
+        centerWrapper.add(board, BorderLayout.CENTER);
 
         // ===== 3. 하단 입력 영역 =====
         JPanel bottomPanel = new JPanel(new BorderLayout(10, 10));
@@ -137,29 +137,33 @@ public class GamePanel extends JPanel {
     // ================== 게임 보드 초기화 ==================
 
     /**
-     * WaitingPanel → GamePanel 전환 시, 최초 1번 호출.
+     * WaitingPanel → GamePanel 전환 시, 판마다 1번 호출.
+     * MainFrame 이 패널을 재사용하므로 판마다 달라지는 값은 전부 여기서 다시 설정합니다.
      *
+     * @param myPlayerId  이번 판 내 플레이어 ID
+     * @param myTeam      이번 판 내 팀 번호
      * @param boardString "단어,점령팀/..." 형식 (예: "사과,1/바나나,0/포도,2")
      */
-    public void initializeGame(String boardString) {
+    public void initializeGame(String myPlayerId, int myTeam, String boardString) {
+        // 이전 판 상태부터 지움 (보드가 비어 와도 이전 판 카드가 남지 않도록 먼저)
+        resetState();
+        this.myPlayerId = myPlayerId;
+        setMyTeam(myTeam);
+
         if (boardString == null || boardString.isEmpty()) return;
 
         String[] entries = boardString.split("/");
         int cardCount = entries.length;
 
-        wordLabels = new JLabel[cardCount];
-        boardPanel.removeAll();
-
-        // 30개 기준 6 x 5 정도로 배치
-        int cols = 6;
-        int rows = (int) Math.ceil(cardCount / (double) cols);
-        boardPanel.setLayout(new GridLayout(rows, cols, 12, 12));
+        String[] words = new String[cardCount];
+        int[] owners = new int[cardCount];
+        cardSeqs = new int[cardCount];
 
         for (int i = 0; i < cardCount; i++) {
             String entry = entries[i];
             String[] parts = entry.split(",");
 
-            String word = parts.length > 0 ? parts[0] : "";
+            words[i] = parts.length > 0 ? parts[0] : "";
             int ownerTeam = 0;
             if (parts.length > 1) {
                 try {
@@ -168,87 +172,154 @@ public class GamePanel extends JPanel {
                     ownerTeam = 0;
                 }
             }
-
-            JLabel label = new JLabel(word, SwingConstants.CENTER);
-            label.setOpaque(true);
-            label.setBorder(BorderFactory.createCompoundBorder(
-                    BorderFactory.createLineBorder(new Color(200, 200, 200), 1, true),
-                    BorderFactory.createEmptyBorder(8, 6, 8, 6)
-            ));
-            label.setFont(UITheme.NORMAL_FONT.deriveFont(18f));
-
-            applyOwnerTeamColor(label, ownerTeam);
-
-            wordLabels[i] = label;
-            boardPanel.add(label);
+            owners[i] = ownerTeam;
         }
 
-        boardPanel.revalidate();
-        boardPanel.repaint();
+        board.setCards(words, owners);
         inputField.requestFocusInWindow();
     }
 
+    private void resetState() {
+        if (clockTimer != null) clockTimer.stop();
+        deadlineNanos = 0;
+        maxTime = 0;
+        timerBar.setMaxTime(0);
+        timerBar.setTimeLeft(0);
+        team1ScorePanel.setScore(0);
+        team2ScorePanel.setScore(0);
+        inputField.setText("");
+        cardSeqs = null;
+        board.setCards(new String[0], new int[0]);
+    }
+
+    // ================== 서버 상태 갱신 반영 ==================
+
     /**
-     * 각 카드의 배경색을 팀에 따라 칠해줍니다.
+     * GAME_START 에서 받은 종료 시각으로 타이머 바를 움직이기 시작합니다.
+     * 이후로는 서버 메시지 없이 CLOCK_FRAME_MS 마다 남은 시간을 다시 계산해 그림.
+     *
+     * @param durationMs    전체 게임 시간 (ms, 막대 비율 기준)
+     * @param deadlineNanos 게임 종료 시각 (System.nanoTime 기준)
      */
-    private void applyOwnerTeamColor(JLabel label, int ownerTeam) {
-        Color bg;
-        switch (ownerTeam) {
-            case 1 -> bg = new Color(255, 220, 220); // 1팀(빨강)
-            case 2 -> bg = new Color(220, 220, 255); // 2팀(파랑)
-            default -> bg = Color.WHITE;             // 미점령
+    public void startClock(int durationMs, long deadlineNanos) {
+        this.maxTime = durationMs;
+        this.deadlineNanos = deadlineNanos;
+        timerBar.setMaxTime(durationMs);
+        tickClock();
+
+        if (clockTimer == null) {
+            clockTimer = new Timer(CLOCK_FRAME_MS, e -> tickClock());
+            clockTimer.setCoalesce(true); // EDT 가 밀려도 이벤트를 쌓지 않음
         }
-        label.setBackground(bg);
-        label.setForeground(Color.DARK_GRAY);
+        clockTimer.start();
     }
 
-    // ================== 서버 상태 갱신 반영 ==================
+    private void tickClock() {
+        long leftMs = (deadlineNanos - System.nanoTime()) / 1_000_000L;
+        timerBar.setTimeLeft((int) Math.max(0, leftMs));
+        if (leftMs <= 0 && clockTimer != null) {
+            clockTimer.stop(); // 종료 화면 전환은 GAME_END 로
+        }
+    }
 
     /**
-     * 서버에서 GAME_UPDATE를 받을 때마다 호출.
+     * 서버에서 GAME_UPDATE를 받을 때마다 호출. (점수 + 남은 시간 재동기화)
      *
-     * @param boardString "단어,점령팀/..." 형식
-     * @param score1      1팀 점수
-     * @param score2      2팀 점수
-     * @param timeLeft    남은 시간(초)
+     * @param score1   1팀 점수
+     * @param score2   2팀 점수
+     * @param timeLeftMs 남은 시간(ms)
      */
-    public void updateGameState(String boardString, int score1, int score2, int timeLeft) {
-        // 최초 한 번 timeLeft를 maxTime으로 기억 (비율 계산용)
-        if (maxTime == 0 && timeLeft > 0) {
-            maxTime = timeLeft;
-            timerBar.setMaxTime(maxTime);
+    public void updateGameState(int score1, int score2, int timeLeftMs) {
+        if (deadlineNanos == 0) {
+            // 종료 시각을 못 받은 경우: 처음 들어온 값을 전체 시간으로 보고 시작
+            startClock(timeLeftMs, System.nanoTime() + timeLeftMs * 1_000_000L);
+        } else {
+            // 서버 값과 많이 어긋났을 때만 종료 시각 보정 (작은 지연 차이로 막대가 떨리지 않도록)
+            long serverDeadline = System.nanoTime() + timeLeftMs * 1_000_000L;
+            if (Math.abs(serverDeadline - deadlineNanos) > RESYNC_TOLERANCE_MS * 1_000_000L) {
+                deadlineNanos = serverDeadline;
+                if (clockTimer != null && !clockTimer.isRunning() && timeLeftMs > 0) {
+                    clockTimer.start();
+                }
+                tickClock();
+            }
         }
 
-        // 타이머바 갱신
-        timerBar.setTimeLeft(timeLeft);
-
         // 점수 갱신
         team1ScorePanel.setScore(score1);
         team2ScorePanel.setScore(score2);
+    }
 
-        // 보드 갱신
-        if (boardString == null || boardString.isEmpty() || wordLabels == null) return;
-
-        String[] entries = boardString.split("/");
-        for (int i = 0; i < entries.length && i < wordLabels.length; i++) {
-            String[] parts = entries[i].split(",");
-
-            String word = parts.length > 0 ? parts[0] : "";
-            int ownerTeam = 0;
-            if (parts.length > 1) {
-                try {
-                    ownerTeam = Integer.parseInt(parts[1]);
-                } catch (NumberFormatException ignored) {
-                    ownerTeam = 0;
-                }
+    /**
+     * GAME_UPDATE 의 changes 적용: 바뀐 카드만 다시 칠함
+     *
+     * @param changes "인덱스,팀,순번/인덱스,팀,순번..." 형식 (예: "7,2,15")
+     */
+    public void applyBoardDelta(String changes) {
+        if (changes == null || changes.isEmpty() || cardSeqs == null) return;
+
+        int pos = 0;
+        int len = changes.length();
+        while (pos < len) {
+            int end = changes.indexOf('/', pos);
+            if (end == -1) end = len;
+
+            int c1 = changes.indexOf(',', pos);
+            int c2 = (c1 == -1) ? -1 : changes.indexOf(',', c1 + 1);
+            if (c1 != -1 && c2 != -1 && c2 < end) {
+                int index = parseIntRange(changes, pos, c1);
+                int team = parseIntRange(changes, c1 + 1, c2);
+                int seq = parseIntRange(changes, c2 + 1, end);
+                setCardOwner(index, team, seq);
             }
+            pos = end + 1;
+        }
+    }
 
-            JLabel label = wordLabels[i];
-            label.setText(word);
-            applyOwnerTeamColor(label, ownerTeam);
+    /**
+     * 주기적으로 오는 전체 점령 상태 스냅샷 적용 (누락된 변경 복구용)
+     *
+     * @param ownersString "팀,팀,팀..." 형식 (카드 순서대로)
+     * @param seq          스냅샷 시점의 보드 순번
+     */
+    public void applyBoardSnapshot(String ownersString, int seq) {
+        if (ownersString == null || ownersString.isEmpty() || cardSeqs == null) return;
+
+        int index = 0;
+        int pos = 0;
+        int len = ownersString.length();
+        while (pos < len && index < cardSeqs.length) {
+            int end = ownersString.indexOf(',', pos);
+            if (end == -1) end = len;
+            setCardOwner(index, parseIntRange(ownersString, pos, end), seq);
+            index++;
+            pos = end + 1;
         }
+    }
+
+    /**
+     * 카드 1장의 점령 팀 변경. 이미 더 최신 순번이 반영된 카드는 건드리지 않음
+     * (팀이 실제로 바뀐 카드만 보드가 그 칸을 다시 그림)
+     */
+    private void setCardOwner(int index, int team, int seq) {
+        if (index < 0 || index >= cardSeqs.length) return;
+        if (seq < cardSeqs[index]) return;
+
+        cardSeqs[index] = seq;
+        board.setOwner(index, team);
+    }
 
-        boardPanel.repaint();
+    /**
+     * s[start, end) 구간의 정수를 substring 없이 읽음 (형식이 틀리면 0)
+     */
+    private static int parseIntRange(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9') return 0;
+            value = value * 10 + (ch - '0');
+        }
+        return value;
     }
 
     // ================== 단어 입력 전송 ==================
@@ -291,8 +362,8 @@ public class GamePanel extends JPanel {
      * 상단 타이머 바 (색이 줄어드는 막대)
      */
     private static class TimerBar extends JComponent {
-        private int maxTime = 0;
-        private int timeLeft = 0;
+        private int maxTime = 0;  // ms
+        private int timeLeft = 0; // ms
 
         public void setMaxTime(int maxTime) {
             this.maxTime = maxTime;
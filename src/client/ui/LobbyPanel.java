@@ -25,13 +25,9 @@ public class LobbyPanel extends JPanel {
         this.playerId = playerId;
 
         // ==== 1. 배경 패널 ====
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start1.png")
-        ).getImage();
-
         setLayout(new BorderLayout());
 
-        BackgroundPanel root = new BackgroundPanel(bgImage);
+        BackgroundPanel root = new BackgroundPanel("/tg_start1.png");
         root.setLayout(new BorderLayout());
         add(root, BorderLayout.CENTER);
 
@@ -204,14 +200,15 @@ public class LobbyPanel extends JPanel {
         connection.sendMessage(Protocol.ROOM_JOIN_REQ, data);
     }
 
-    public void updateRoomList(String dataPart) {
+    /**
+     * ROOM_LIST_RES 의 list 값으로 방 목록 갱신
+     *
+     * @param listData "room1:R1:방이름:2/4:waiting;room2:..." 형식
+     */
+    public void updateRoomList(String listData) {
         tableModel.setRowCount(0);
 
-        if (!dataPart.contains("list" + Protocol.FIELD_SEPARATOR)) return;
-
-        String listData = dataPart.split(
-                "list" + Protocol.FIELD_SEPARATOR, 2
-        )[1];
+        if (listData == null || listData.isEmpty()) return;
 
         String[] roomEntries = listData.split(Protocol.DATA_SEPARATOR);
 
@@ -19,6 +19,13 @@ public class MainFrame extends JFrame {
     private JPanel currentPanel; // 현재 화면에 표시 중인 패널 참조
     private LobbyPanel lobbyPanel;
 
+    // 방/게임 화면은 한 번만 만들어 CardLayout 에 넣고 판마다 초기화해서 재사용
+    // → 오래 켜 두어도 컴포넌트 트리와 배경 이미지가 판 수만큼 늘지 않음
+    private RoomPanel roomPanel;
+    private WaitingPanel waitingPanel;
+    private GamePanel gamePanel;
+    private GameEndPanel gameEndPanel;
+
     // 로그인 UI 요소
     private JTextField nameField;
     private JTextField ipField;
@@ -39,6 +46,14 @@ public class MainFrame extends JFrame {
         contentPanel = new JPanel(new CardLayout());
         add(contentPanel, BorderLayout.CENTER);
 
+        // 창 크기가 바뀌면 이전 크기로 줄여 둔 배경 사본은 더 쓸 일이 없으므로 비움
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                AssetCache.evictScaled();
+            }
+        });
+
         // 로그인 화면 초기화 및 추가
         initializeLoginComponent();
 
@@ -51,13 +66,8 @@ public class MainFrame extends JFrame {
     private void initializeLoginComponent() {
         // ... (UI 테마 관련 코드는 생략하고, 기능 코드만 유지합니다. UITheme, BackgroundPanel, RoundJTextField 등이 import되어 있다고 가정합니다.) ...
 
-        // 1. 배경 이미지 로드 (이 코드는 UITheme 및 커스텀 클래스에 의존합니다. 유지)
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start.png")
-        ).getImage();
-
-        // 2. 배경을 그리는 패널 사용
-        BackgroundPanel loginView = new BackgroundPanel(bgImage);
+        // 1~2. 배경을 그리는 패널 사용 (이미지 로드는 AssetCache 가 1번만)
+        BackgroundPanel loginView = new BackgroundPanel("/tg_start.png");
         loginView.setLayout(new BorderLayout());
         loginView.setOpaque(true);
 
@@ -268,7 +278,11 @@ public class MainFrame extends JFrame {
     public void switchToRoom(String roomId, String roomName, String playersString, String roomCreatorId) {
         String myId = getPlayerId();
 
-        RoomPanel roomPanel = new RoomPanel(this, connection, currentPlayerId);
+        // 방 화면은 채팅/준비 상태가 방마다 달라 새로 만들되, 이전 방 화면은 떼어냄
+        if (roomPanel != null) {
+            contentPanel.remove(roomPanel);
+        }
+        roomPanel = new RoomPanel(this, connection, currentPlayerId);
 
         roomPanel.initializeRoom(roomId, roomName, playersString, roomCreatorId);
 
@@ -282,11 +296,16 @@ public class MainFrame extends JFrame {
 
     /**
      * GAME_START 수신 시, 인게임 준비 화면(Waiting)으로 전환합니다.
+     *
+     * @param deadlineNanos 게임 종료 시각 (System.nanoTime 기준)
      */
-    public void switchToWaiting(String wordList, int timeLimit) {
-        WaitingPanel waitingPanel = new WaitingPanel(this, wordList, timeLimit);
+    public void switchToWaiting(String wordList, int timeLimit, long deadlineNanos) {
+        if (waitingPanel == null) {
+            waitingPanel = new WaitingPanel(this);
+            contentPanel.add(waitingPanel, "Waiting");
+        }
+        waitingPanel.start(wordList, timeLimit, deadlineNanos);
 
-        contentPanel.add(waitingPanel, "Waiting");
         CardLayout cl = (CardLayout) (contentPanel.getLayout());
         cl.show(contentPanel, "Waiting");
         currentPanel = waitingPanel;
@@ -313,19 +332,22 @@ public class MainFrame extends JFrame {
 //        gamePanel.requestFocusInWindow(); // 입력 필드에 포커스
 //    }
     // GAME_START 처리
-    public void switchToGame(String wordList) {
+    public void switchToGame(String wordList, int timeLimit, long deadlineNanos) {
         // 내 플레이어 ID와 대기방에서 저장해둔 내 팀 번호 가져오기
         String myId   = getPlayerId();
         int myTeam    = getMyTeam();
 
-        // GamePanel 생성자: (ServerConnection, String myPlayerId, int myTeam)
-        GamePanel gamePanel = new GamePanel(connection, myId, myTeam);
+        // GamePanel 생성자: (ServerConnection, String myPlayerId, int myTeam) - 처음 1번만
+        if (gamePanel == null) {
+            gamePanel = new GamePanel(connection, myId, myTeam);
+            contentPanel.add(gamePanel, "Game");
+        }
 
-        // 단어 목록으로 게임 초기화
-        gamePanel.initializeGame(wordList);
+        // 이번 판 플레이어/팀 + 단어 목록으로 게임 초기화 (이전 판 값은 모두 덮어씀) + 종료 시각으로 타이머 바 시작
+        gamePanel.initializeGame(myId, myTeam, wordList);
+        gamePanel.startClock(timeLimit * 1000, deadlineNanos);
 
         // 패널 전환
-        contentPanel.add(gamePanel, "Game");
         CardLayout cl = (CardLayout) (contentPanel.getLayout());
         cl.show(contentPanel, "Game");
         currentPanel = gamePanel;
@@ -337,17 +359,26 @@ public class MainFrame extends JFrame {
 
 
 
+    private void stopCountdown() {
+        if (waitingPanel != null) {
+            waitingPanel.stop();
+        }
+    }
+
     /**
      * GAME_END 수신 시, 결과 화면으로 전환합니다.
      */
     public void switchToGameEnd(String winner, int score1, int score2, String mvp) { // GAME_END 처리
-        GameEndPanel endPanel = new GameEndPanel(this, connection, currentPlayerId);
-        endPanel.updateResults(winner, score1, score2);
+        stopCountdown(); // 카운트다운 중에 끝났으면 뒤늦게 게임 화면으로 넘어가지 않도록
+        if (gameEndPanel == null) {
+            gameEndPanel = new GameEndPanel(this, connection);
+            contentPanel.add(gameEndPanel, "GameEnd");
+        }
+        gameEndPanel.updateResults(winner, score1, score2);
 
-        contentPanel.add(endPanel, "GameEnd");
         CardLayout cl = (CardLayout) (contentPanel.getLayout());
         cl.show(contentPanel, "GameEnd");
-        currentPanel = endPanel;
+        currentPanel = gameEndPanel;
 
         setTitle("판뒤집기 - 게임 종료");
     }
@@ -357,6 +388,7 @@ public class MainFrame extends JFrame {
      * 방 나가기 성공/요청 시, 로비 화면으로 전환합니다.
      */
     public void switchToLobby() {
+        stopCountdown();
         if (lobbyPanel != null) {
             CardLayout cl = (CardLayout) (contentPanel.getLayout());
             cl.show(contentPanel, "Lobby");
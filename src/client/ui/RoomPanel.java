@@ -58,11 +58,7 @@ public class RoomPanel extends JPanel {
         setBorder(new EmptyBorder(0, 0, 0, 0));
 
         // ==== 1. 배경 패널 (칠판 전체) ====
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start1.png")
-        ).getImage();
-
-        BackgroundPanel root = new BackgroundPanel(bgImage);
+        BackgroundPanel root = new BackgroundPanel("/tg_start1.png");
         root.setLayout(new BorderLayout());
         add(root, BorderLayout.CENTER);
 
@@ -116,12 +112,10 @@ public class RoomPanel extends JPanel {
         };
 
         for (int i = 0; i < 4; i++) {
-            // 캐릭터 이미지
+            // 캐릭터 이미지 (AssetCache 가 이 크기로 1번만 줄여 두고 방에 들어올 때마다 재사용)
             ImageIcon icon = null;
-            java.net.URL imgUrl = getClass().getResource(boogiePaths[i]);
-            if (imgUrl != null) {
-                Image img = new ImageIcon(imgUrl).getImage()
-                        .getScaledInstance(charW, charH, Image.SCALE_SMOOTH);
+            Image img = AssetCache.scaled(boogiePaths[i], charW, charH);
+            if (img != null) {
                 icon = new ImageIcon(img);
             }
 
@@ -17,21 +17,14 @@ public class UITheme {
     public static final Color TEXT_NORMAL = Color.WHITE;
     public static final Color TEXT_SUB    = new Color(180, 190, 210);
 
-    // 폰트 로더
+    // 폰트 로더 (TTF 파일은 AssetCache 가 1번만 읽고, 크기별로 deriveFont)
     private static Font loadFont(String path, float size) {
-        try {
-            // fonts 소스폴더 안의 리소스 읽기 "/EliceDigitalBaeum_Bold.ttf"
-            var is = UITheme.class.getResourceAsStream(path);
-            if (is == null) {
-                System.out.println("폰트 리소스를 찾을 수 없음: " + path);
-                return new Font("맑은 고딕", Font.PLAIN, (int) size);
-            }
-            Font base = Font.createFont(Font.TRUETYPE_FONT, is);
-            return base.deriveFont(size);
-        } catch (Exception e) {
-            System.out.println("폰트 로드 실패: " + path + " / " + e.getMessage());
+        // fonts 소스폴더 안의 리소스 읽기 "/EliceDigitalBaeum_Bold.ttf"
+        Font font = AssetCache.font(path, size);
+        if (font == null) {
             return new Font("맑은 고딕", Font.PLAIN, (int) size);
         }
+        return font;
     }
 
     // <폰트들> 
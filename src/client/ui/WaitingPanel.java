@@ -5,31 +5,31 @@ import java.awt.*;
 import java.util.Timer;
 import java.util.TimerTask;
 
+/**
+ * GAME_START 후 3,2,1 카운트다운 화면.
+ * MainFrame 이 한 번만 만들어 두고 판마다 start() 로 다시 시작합니다.
+ */
 public class WaitingPanel extends JPanel {
 
     private final MainFrame mainFrame;
-    private final String wordList;
-    private final int timeLimit;      // 필요하면 안내 문구에만 사용
+    private String wordList;
+    private int timeLimit;      // 필요하면 안내 문구에만 사용
+    private long deadlineNanos; // 게임 종료 시각 (System.nanoTime 기준) → GamePanel 로 넘김
 
     private JLabel titleLabel;        // "모든 플레이어가 준비되었습니다."
     private JLabel countdownLabel;    // 3, 2, 1 숫자
     private JLabel subLabel;          // "잠시 후 게임이 시작됩니다."
     private Timer timer;
+    private int generation;     // start / stop 마다 증가 (EDT 에서만 접근) → 이전 카운트다운의 화면 전환 무시
 
-    public WaitingPanel(MainFrame mainFrame, String wordList, int timeLimit) {
+    public WaitingPanel(MainFrame mainFrame) {
         this.mainFrame = mainFrame;
-        this.wordList = wordList;
-        this.timeLimit = timeLimit;
 
         setLayout(new BorderLayout());
         setOpaque(false);
 
         // ==== 배경 (칠판 이미지) ====
-        Image bgImage = new ImageIcon(
-                getClass().getResource("/tg_start1.png")
-        ).getImage();
-
-        BackgroundPanel root = new BackgroundPanel(bgImage);
+        BackgroundPanel root = new BackgroundPanel("/tg_start1.png");
         root.setLayout(new BorderLayout());
         add(root, BorderLayout.CENTER);
 
@@ -81,22 +81,46 @@ public class WaitingPanel extends JPanel {
         countdownLabel.setForeground(new Color(255, 180, 60));
         card.add(countdownLabel, BorderLayout.CENTER);
 
-        // ===== 하단 보조 문구 =====
-        String subText = String.format(
-                "약 3초 후 게임이 시작됩니다. (게임 시간: %d초)",
-                timeLimit
-        );
-        subLabel = new JLabel(subText, SwingConstants.CENTER);
+        // ===== 하단 보조 문구 (start 에서 게임 시간으로 채움) =====
+        subLabel = new JLabel("", SwingConstants.CENTER);
         subLabel.setFont(UITheme.NORMAL_FONT.deriveFont(18f));
         subLabel.setForeground(new Color(90, 90, 90));
         subLabel.setBorder(BorderFactory.createEmptyBorder(15, 0, 0, 0));
         card.add(subLabel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * 이번 판 정보로 화면을 초기화하고 카운트다운을 (다시) 시작합니다.
+     */
+    public void start(String wordList, int timeLimit, long deadlineNanos) {
+        this.wordList = wordList;
+        this.timeLimit = timeLimit;
+        this.deadlineNanos = deadlineNanos;
+
+        countdownLabel.setText("3");
+        countdownLabel.setForeground(new Color(255, 180, 60));
+        subLabel.setText(String.format(
+                "약 3초 후 게임이 시작됩니다. (게임 시간: %d초)",
+                timeLimit
+        ));
 
-        // 카운트다운 시작
         startCountdown();
     }
 
+    /**
+     * 카운트다운을 멈춥니다. 이미 EDT 에 올라간 화면 전환도 실행되지 않습니다. (게임 종료 / 로비 이동 시)
+     */
+    public void stop() {
+        generation++;
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
     private void startCountdown() {
+        stop(); // 이전 판 카운트다운이 남아 있으면 정리
+        final int myGeneration = generation;
         final int[] count = {3};
         timer = new Timer();
 
@@ -104,6 +128,9 @@ public class WaitingPanel extends JPanel {
             @Override
             public void run() {
                 SwingUtilities.invokeLater(() -> {
+                    // cancel 전에 이미 큐에 들어간 작업: 그 사이 새 판이 시작됐거나 멈췄으면 무시
+                    if (myGeneration != generation) return;
+
                     if (count[0] > 0) {
                         countdownLabel.setText(String.valueOf(count[0]));
                         count[0]--;
@@ -115,9 +142,9 @@ public class WaitingPanel extends JPanel {
                                         : new Color(255, 140, 40)
                         );
                     } else {
-                        timer.cancel();
+                        stop();
                         // 3,2,1 끝난 뒤 실제 게임 화면으로 전환
-                        mainFrame.switchToGame(wordList);
+                        mainFrame.switchToGame(wordList, timeLimit, deadlineNanos);
                     }
                 });
             }
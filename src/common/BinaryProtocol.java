@@ -0,0 +1,361 @@
+package common;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 길이 접두 바이너리 프로토콜 (텍스트 Protocol 과 선택적으로 병행)
+ *
+ * 협상: 클라이언트가 LOGIN_REQ 에 codec:binary 를 넣고, 서버가 LOGIN_RES 에 codec:binary 로 답하면
+ *      그 다음 메시지부터 양쪽 모두 바이너리로 주고받습니다. (답이 없으면 텍스트 유지)
+ *
+ * 프레임:  [varint 본문길이][varint 타입ID][byte 레이아웃][페이로드]
+ * 문자열:  [varint UTF-8 바이트 수][바이트]
+ * 레이아웃:
+ *  - GENERIC : [varint 필드수]{문자열 key, 문자열 value}
+ *  - FIXED   : 타입별 고정 필드 + 뒤에 GENERIC 형식의 나머지 필드
+ *      WORD_INPUT  : 문자열 word
+ *      GAME_UPDATE : [byte flags][varint score1][varint score2][varint timeLeft][문자열 roomId]
+ *                    (flags&1) [varint 개수]{varint 인덱스, varint 팀, varint 순번}   ← changes
+ *                    (flags&2) [varint seq][varint 개수]{varint 팀}                ← owners 스냅샷
+ *                    (flags&4) [varint timeLeftMs]                                ← 남은 시간 (ms)
+ * 값에 ';' ':' '|' 가 들어가도 깨지지 않습니다.
+ */
+public final class BinaryProtocol {
+
+    public static final String CODEC_FIELD = "codec";
+    public static final String CODEC_BINARY = "binary";
+
+    private static final int LAYOUT_GENERIC = 0;
+    private static final int LAYOUT_FIXED = 1;
+
+    private static final int FLAG_CHANGES = 1;
+    private static final int FLAG_OWNERS = 2;
+    private static final int FLAG_TIME_MS = 4;
+
+    // 타입 ID 표 (인덱스 = ID, 0 은 예약: 표에 없는 타입은 이름 문자열을 같이 보냄)
+    private static final String[] TYPES = {
+            null,
+            Protocol.LOGIN_REQ, Protocol.LOGIN_RES,
+            Protocol.ROOM_LIST_REQ, Protocol.ROOM_LIST_RES,
+            Protocol.ROOM_CREATE_REQ, Protocol.ROOM_CREATE_RES,
+            Protocol.ROOM_JOIN_REQ, Protocol.ROOM_JOIN_RES,
+            Protocol.ROOM_UPDATE, Protocol.ROOM_LEAVE_REQ,
+            Protocol.GAME_READY, Protocol.GAME_START, Protocol.GAME_START_REQ,
+            Protocol.WORD_INPUT, Protocol.WORD_CAPTURE,
+            Protocol.GAME_STATE, Protocol.GAME_UPDATE, Protocol.GAME_END,
+            Protocol.CHAT_MSG, Protocol.ERROR
+    };
+    private static final Map<String, Integer> TYPE_IDS = new HashMap<>();
+    static {
+        for (int i = 1; i < TYPES.length; i++) {
+            TYPE_IDS.put(TYPES[i], i);
+        }
+    }
+
+    private BinaryProtocol() {}
+
+    // ================== 인코딩 ==================
+
+    /**
+     * 메시지를 바이너리 프레임 1개로 인코딩합니다. (길이 접두 포함)
+     */
+    public static byte[] encode(String type, Map<String, String> data) {
+        Buf body = new Buf(64);
+        Integer id = TYPE_IDS.get(type);
+        if (id != null) {
+            body.writeVarint(id);
+        } else {
+            body.writeVarint(0);
+            body.writeString(type);
+        }
+
+        int mark = body.size;
+        if (!tryEncodeFixed(type, data, body)) {
+            body.size = mark; // 고정 레이아웃으로 표현 못 하면 일반 레이아웃
+            body.writeByte(LAYOUT_GENERIC);
+            writeGeneric(data, body);
+        }
+
+        Buf frame = new Buf(body.size + 5);
+        frame.writeVarint(body.size);
+        frame.writeBytes(body.bytes, 0, body.size);
+        return frame.toByteArray();
+    }
+
+    private static boolean tryEncodeFixed(String type, Map<String, String> data, Buf out) {
+        try {
+            if (Protocol.WORD_INPUT.equals(type) && data.containsKey("word")) {
+                Map<String, String> rest = new LinkedHashMap<>(data);
+                out.writeByte(LAYOUT_FIXED);
+                out.writeString(rest.remove("word"));
+                writeGeneric(rest, out);
+                return true;
+            }
+            if (Protocol.GAME_UPDATE.equals(type)) {
+                Map<String, String> rest = new LinkedHashMap<>(data);
+                String changes = rest.remove("changes");
+                String owners = rest.remove("owners");
+                String seq = (owners != null) ? rest.remove("seq") : null;
+                String timeLeftMs = rest.remove("timeLeftMs");
+                int flags = (changes != null ? FLAG_CHANGES : 0) | (owners != null ? FLAG_OWNERS : 0)
+                        | (timeLeftMs != null ? FLAG_TIME_MS : 0);
+
+                out.writeByte(LAYOUT_FIXED);
+                out.writeByte(flags);
+                out.writeVarint(parseNonNegative(rest.remove("score1")));
+                out.writeVarint(parseNonNegative(rest.remove("score2")));
+                out.writeVarint(parseNonNegative(rest.remove("timeLeft")));
+                String roomId = rest.remove("roomId");
+                out.writeString(roomId != null ? roomId : "");
+
+                if (changes != null) {
+                    String[] entries = changes.isEmpty() ? new String[0] : changes.split("/");
+                    out.writeVarint(entries.length);
+                    for (String entry : entries) {
+                        String[] p = entry.split(",");
+                        if (p.length != 3) return false;
+                        out.writeVarint(parseNonNegative(p[0]));
+                        out.writeVarint(parseNonNegative(p[1]));
+                        out.writeVarint(parseNonNegative(p[2]));
+                    }
+                }
+                if (owners != null) {
+                    out.writeVarint(parseNonNegative(seq));
+                    String[] teams = owners.isEmpty() ? new String[0] : owners.split(",");
+                    out.writeVarint(teams.length);
+                    for (String t : teams) {
+                        out.writeVarint(parseNonNegative(t));
+                    }
+                }
+                if (timeLeftMs != null) {
+                    out.writeVarint(parseNonNegative(timeLeftMs));
+                }
+                writeGeneric(rest, out);
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private static void writeGeneric(Map<String, String> data, Buf out) {
+        out.writeVarint(data.size());
+        for (Map.Entry<String, String> entry : data.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeString(entry.getValue());
+        }
+    }
+
+    private static int parseNonNegative(String s) {
+        int value = Integer.parseInt(s); // null 이면 NumberFormatException
+        if (value < 0) throw new NumberFormatException("음수: " + s);
+        return value;
+    }
+
+    // ================== 디코딩 ==================
+
+    /**
+     * 바이너리 프레임 디코더
+     */
+    public static class Decoder implements FrameDecoder {
+
+        @Override
+        public Frame next(ByteBuffer in) throws IOException {
+            int start = in.position();
+            int length;
+            try {
+                length = readVarintOrMinusOne(in);
+            } catch (RuntimeException e) {
+                // 길이부터 틀린 프레임 → 예외로 연결을 끊어야 같은 바이트를 계속 다시 읽지 않음
+                throw new ProtocolException("잘못된 프레임 길이: " + e.getMessage());
+            }
+            if (length < 0) {
+                in.position(start);
+                return null;
+            }
+            if (length > MAX_FRAME_SIZE) {
+                throw new ProtocolException("프레임이 너무 큽니다: " + length + " bytes");
+            }
+            if (in.remaining() < length) {
+                in.position(start);
+                return null;
+            }
+
+            ByteBuffer body = in.slice(in.position(), length);
+            in.position(in.position() + length);
+
+            try {
+                return decodeBody(body);
+            } catch (RuntimeException e) {
+                throw new ProtocolException("잘못된 바이너리 프레임: " + e);
+            }
+        }
+    }
+
+    private static Frame decodeBody(ByteBuffer body) throws ProtocolException {
+        int id = readVarint(body);
+        String type;
+        if (id == 0) {
+            type = readString(body);
+        } else if (id < TYPES.length) {
+            type = TYPES[id];
+        } else {
+            throw new ProtocolException("알 수 없는 타입 ID: " + id);
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        int layout = body.get();
+        if (layout != LAYOUT_GENERIC && layout != LAYOUT_FIXED) {
+            throw new ProtocolException("알 수 없는 레이아웃: " + layout);
+        }
+        if (layout == LAYOUT_FIXED) {
+            if (Protocol.WORD_INPUT.equals(type)) {
+                values.put("word", readString(body));
+            } else if (Protocol.GAME_UPDATE.equals(type)) {
+                decodeGameUpdate(body, values);
+            } else {
+                throw new ProtocolException("고정 레이아웃이 없는 타입: " + type);
+            }
+        }
+        readGeneric(body, values);
+        return new Frame(type, new MapFields(values));
+    }
+
+    private static void decodeGameUpdate(ByteBuffer body, Map<String, String> values) {
+        int flags = body.get();
+        values.put("score1", String.valueOf(readVarint(body)));
+        values.put("score2", String.valueOf(readVarint(body)));
+        values.put("timeLeft", String.valueOf(readVarint(body)));
+        values.put("roomId", readString(body));
+
+        if ((flags & FLAG_CHANGES) != 0) {
+            int count = readVarint(body);
+            StringBuilder sb = new StringBuilder(count * 8);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) sb.append('/');
+                sb.append(readVarint(body)).append(',')
+                        .append(readVarint(body)).append(',')
+                        .append(readVarint(body));
+            }
+            values.put("changes", sb.toString());
+        }
+        if ((flags & FLAG_OWNERS) != 0) {
+            values.put("seq", String.valueOf(readVarint(body)));
+            int count = readVarint(body);
+            StringBuilder sb = new StringBuilder(count * 2);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(readVarint(body));
+            }
+            values.put("owners", sb.toString());
+        }
+        if ((flags & FLAG_TIME_MS) != 0) {
+            values.put("timeLeftMs", String.valueOf(readVarint(body)));
+        }
+    }
+
+    private static void readGeneric(ByteBuffer body, Map<String, String> values) {
+        int count = readVarint(body);
+        for (int i = 0; i < count; i++) {
+            String key = readString(body);
+            values.put(key, readString(body));
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarint(in);
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("문자열 길이 초과: " + length);
+        }
+        String s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return s;
+    }
+
+    /**
+     * 음이 아닌 정수 varint (7비트씩, 상위 비트 = 다음 바이트 있음)
+     */
+    private static int readVarint(ByteBuffer in) {
+        int value = readVarintOrMinusOne(in);
+        if (value < 0) throw new IllegalArgumentException("varint 가 잘렸습니다");
+        return value;
+    }
+
+    /**
+     * varint 를 읽되, 바이트가 모자라면 -1 (position 은 어디에 있든 호출한 쪽에서 되돌림)
+     * 음이 아닌 int (31비트) 를 넘는 값은 예외 → 넘친 음수를 "모자람" 으로 착각하지 않음
+     */
+    private static int readVarintOrMinusOne(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!in.hasRemaining()) return -1;
+            int b = in.get() & 0xFF;
+            if (shift == 28 && (b & 0xF8) != 0) {
+                // 5번째 바이트에는 하위 3비트(2^28 ~ 2^30)만 올 수 있음
+                throw new IllegalArgumentException("varint 가 int 범위를 넘습니다");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("varint 가 너무 깁니다");
+    }
+
+    /**
+     * 인코딩용 가변 바이트 버퍼
+     */
+    private static final class Buf {
+        byte[] bytes;
+        int size;
+
+        Buf(int capacity) {
+            bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                byte[] bigger = new byte[Math.max(bytes.length * 2, size + extra)];
+                System.arraycopy(bytes, 0, bigger, 0, size);
+                bytes = bigger;
+            }
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void writeVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeBytes(byte[] src, int offset, int length) {
+            ensure(length);
+            System.arraycopy(src, offset, bytes, size, length);
+            size += length;
+        }
+
+        void writeString(String s) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        byte[] toByteArray() {
+            byte[] out = new byte[size];
+            System.arraycopy(bytes, 0, out, 0, size);
+            return out;
+        }
+    }
+}
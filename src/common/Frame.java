@@ -0,0 +1,29 @@
+package common;
+
+/**
+ * 프레이밍이 끝난 수신 메시지 1개 (TYPE + 필드)
+ * 텍스트 디코더는 필드 객체를 재사용하므로, 비동기로 넘길 값은 받은 스레드에서 미리 꺼내 둡니다.
+ */
+public final class Frame {
+
+    private final String type;
+    private final MessageFields fields;
+
+    public Frame(String type, MessageFields fields) {
+        this.type = type;
+        this.fields = fields;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public MessageFields getFields() {
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return type + Protocol.DELIMITER + fields;
+    }
+}
@@ -0,0 +1,22 @@
+package common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 수신 버퍼에서 메시지를 하나씩 잘라내는 디코더.
+ * 상태를 버퍼에만 두기 때문에, 메시지 사이에서 디코더를 바꿔 끼워도 (텍스트 → 바이너리) 안전합니다.
+ */
+public interface FrameDecoder {
+
+    /**
+     * 메시지 1개의 최대 크기 (이보다 크면 비정상 연결로 보고 끊음)
+     */
+    int MAX_FRAME_SIZE = 64 * 1024;
+
+    /**
+     * 읽기 모드 버퍼에서 완성된 메시지 1개를 꺼냅니다.
+     * 아직 다 도착하지 않았으면 position 을 그대로 두고 null 을 돌려줍니다.
+     */
+    Frame next(ByteBuffer in) throws IOException;
+}
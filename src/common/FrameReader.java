@@ -0,0 +1,75 @@
+package common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 블로킹 InputStream 에서 메시지를 하나씩 읽는 리더 (스레드 모드 서버 / 클라이언트 공용).
+ * 읽은 바이트는 자체 버퍼에 두므로 중간에 setDecoder() 로 코덱을 바꿔도 바이트가 섞이지 않습니다.
+ */
+public class FrameReader {
+
+    private final InputStream in;
+    private ByteBuffer buffer = ByteBuffer.allocate(4 * 1024);
+    private FrameDecoder decoder;
+
+    public FrameReader(InputStream in, FrameDecoder decoder) {
+        this.in = in;
+        this.decoder = decoder;
+        buffer.flip(); // 읽기 모드, 비어 있음
+    }
+
+    /**
+     * 다음 메시지를 읽습니다. 연결이 끊기면 null
+     */
+    public Frame read() throws IOException {
+        while (true) {
+            Frame frame = decoder.next(buffer);
+            if (frame != null) return frame;
+            if (!fill()) return null;
+        }
+    }
+
+    /**
+     * 메시지가 1개 이상 올 때까지 기다렸다가, 한 번 읽은 바이트에 들어 있는 메시지를 모두 handler 에 넘깁니다.
+     * (소켓 read 1번에 여러 메시지를 묶어서 처리) 연결이 끊기면 false
+     */
+    public boolean readBatch(Consumer<Frame> handler) throws IOException {
+        while (true) {
+            int count = 0;
+            Frame frame;
+            // 메시지마다 decoder 를 새로 읽음 → handler 안에서 코덱이 바뀌면 다음 메시지부터 적용
+            while ((frame = decoder.next(buffer)) != null) {
+                handler.accept(frame);
+                count++;
+            }
+            if (count > 0) return true;
+            if (!fill()) return false;
+        }
+    }
+
+    /**
+     * 이후 메시지부터 적용할 디코더 (읽기 스레드에서 호출)
+     */
+    public void setDecoder(FrameDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    private boolean fill() throws IOException {
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, FrameDecoder.MAX_FRAME_SIZE + 16));
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
+        int n = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        if (n > 0) {
+            buffer.position(buffer.position() + n);
+        }
+        buffer.flip();
+        return n >= 0;
+    }
+}
@@ -0,0 +1,157 @@
+package common;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 로거 (서버 / 클라이언트 공용).
+ *
+ * 호출한 스레드는 고정 크기 링 버퍼에 한 줄을 넣기만 하고, 실제 System.out / System.err 출력은
+ * 로그 전용 데몬 스레드 하나가 합니다. → 메시지 처리 스레드들이 PrintStream 락에서 줄 서지 않음.
+ * 버퍼가 가득 차면 기다리지 않고 버리며, 버린 개수는 나중에 한 줄로 알려줍니다.
+ *
+ * 설정 (시스템 프로퍼티)
+ *  - log.level       : ERROR / WARN / INFO / DEBUG (기본 INFO)
+ *  - log.wire        : true 면 송수신 메시지 전체를 출력 (기본 false)
+ *  - log.wire.sample : 메시지 N 개 중 1개만 출력 (기본 1 = 전부)
+ */
+public final class Log {
+
+    public enum Level { ERROR, WARN, INFO, DEBUG }
+
+    private static final int CAPACITY = 8192; // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+
+    private static final Level LEVEL = parseLevel(System.getProperty("log.level"));
+    private static final boolean WIRE = Boolean.getBoolean("log.wire");
+    private static final int WIRE_SAMPLE = Math.max(1, Integer.getInteger("log.wire.sample", 1));
+
+    // 다중 생산자 / 단일 소비자 링 버퍼: head 는 생산자가 CAS 로 자리 확보, tail 은 로그 스레드만 증가
+    private static final AtomicReferenceArray<Entry> ring = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong head = new AtomicLong();
+    private static volatile long tail;
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong wireCounter = new AtomicLong();
+
+    private static final Thread writer;
+
+    static {
+        writer = new Thread(Log::drainLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        // 종료 직전에 남은 로그 출력
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::drain, "log-flush"));
+    }
+
+    private Log() {}
+
+    public static void error(String message) { log(Level.ERROR, message); }
+    public static void warn(String message)  { log(Level.WARN, message); }
+    public static void info(String message)  { log(Level.INFO, message); }
+    public static void debug(String message) { log(Level.DEBUG, message); }
+
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() <= LEVEL.ordinal();
+    }
+
+    /**
+     * 송수신 메시지 덤프. 꺼져 있거나 샘플링에서 빠지면 message 를 부르지 않음 → 문자열을 만들지도 않습니다.
+     * (message 는 호출한 스레드에서 바로 수행: 재사용되는 수신 버퍼를 로그 스레드가 읽지 않도록)
+     */
+    public static void wire(Supplier<String> message) {
+        if (!WIRE) return;
+        if (WIRE_SAMPLE > 1 && wireCounter.getAndIncrement() % WIRE_SAMPLE != 0) return;
+        enqueue(new Entry(Level.DEBUG, message.get()));
+    }
+
+    public static boolean isWireEnabled() {
+        return WIRE;
+    }
+
+    private static void log(Level level, String message) {
+        if (isEnabled(level)) {
+            enqueue(new Entry(level, message));
+        }
+    }
+
+    private static void enqueue(Entry entry) {
+        while (true) {
+            long h = head.get();
+            if (h - tail >= CAPACITY) {
+                dropped.incrementAndGet(); // 가득 참: 호출한 스레드를 막지 않고 버림
+                return;
+            }
+            if (head.compareAndSet(h, h + 1)) {
+                ring.lazySet((int) (h & MASK), entry);
+                return;
+            }
+        }
+    }
+
+    // ================== 로그 스레드 ==================
+
+    private static void drainLoop() {
+        while (true) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(1_000_000L); // 비어 있으면 1ms 쉬고 다시 확인
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 로그를 출력합니다. (로그 스레드, 종료 훅에서만 호출)
+     */
+    private static synchronized int drain() {
+        int count = 0;
+        long t = tail;
+        Entry entry;
+        // 자리만 잡고 아직 값을 안 넣은 칸(null)을 만나면 다음 기회에 이어서
+        while ((entry = ring.get((int) (t & MASK))) != null) {
+            ring.lazySet((int) (t & MASK), null);
+            t++;
+            tail = t;
+            print(entry);
+            count++;
+        }
+
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            System.err.println("[WARN] 로그 버퍼가 가득 차 " + lost + "줄을 버렸습니다.");
+        }
+        if (count > 0) {
+            System.out.flush();
+        }
+        return count;
+    }
+
+    private static void print(Entry entry) {
+        PrintStream out = (entry.level.ordinal() <= Level.WARN.ordinal()) ? System.err : System.out;
+        if (entry.level == Level.INFO) {
+            out.println(entry.message);
+        } else {
+            out.println("[" + entry.level + "] " + entry.message);
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null || value.isBlank()) return Level.INFO;
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static final class Entry {
+        final Level level;
+        final String message;
+
+        Entry(Level level, String message) {
+            this.level = level;
+            this.message = message;
+        }
+    }
+}
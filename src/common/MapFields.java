@@ -0,0 +1,32 @@
+package common;
+
+import java.util.Map;
+
+/**
+ * 바이너리 프로토콜로 디코딩한 필드 (key → value 맵)
+ */
+public class MapFields implements MessageFields {
+
+    private final Map<String, String> values;
+
+    public MapFields(Map<String, String> values) {
+        this.values = values;
+    }
+
+    @Override
+    public String get(String key) {
+        String value = values.get(key);
+        return (value != null) ? value : UNKNOWN;
+    }
+
+    @Override
+    public String getRest(String key) {
+        // 바이너리는 값 길이가 따로 있으므로 구분자 문제가 없음
+        return get(key);
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 타입 → 처리기 표 (서버 / 클라이언트 공용).
+ *
+ * - 처리기는 시작할 때 on() 으로 한 번만 등록하고, 이후에는 읽기만 합니다. (등록 후 여러 스레드에서 dispatch 가능)
+ * - 타입 조회는 해시 1번 → 타입이 늘어나도 if / switch 를 차례로 비교하지 않음
+ * - 타입마다 처리 횟수 / 누적 시간 / 최대 시간을 셉니다. (LongAdder: 여러 스레드가 동시에 세도 경합 적음)
+ *
+ * @param <C> 처리기에 같이 넘길 대상 (예: 메시지를 받은 연결)
+ */
+public final class MessageDispatcher<C> {
+
+    @FunctionalInterface
+    public interface Handler<C> {
+        void handle(C context, MessageFields fields);
+    }
+
+    private final String name;
+    private final Map<String, Route<C>> routes = new HashMap<>();
+    private final LongAdder unknown = new LongAdder();
+
+    public MessageDispatcher(String name) {
+        this.name = name;
+    }
+
+    /**
+     * type 처리기 등록 (초기화 때만 호출)
+     */
+    public MessageDispatcher<C> on(String type, Handler<C> handler) {
+        if (routes.putIfAbsent(type, new Route<>(type, handler)) != null) {
+            throw new IllegalStateException("이미 등록된 타입: " + type);
+        }
+        return this;
+    }
+
+    /**
+     * 메시지 1개 처리. 등록 안 된 타입이면 세기만 하고 false
+     */
+    public boolean dispatch(C context, Frame frame) {
+        Route<C> route = routes.get(frame.getType());
+        if (route == null) {
+            unknown.increment();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            route.handler.handle(context, frame.getFields());
+        } finally {
+            route.record(System.nanoTime() - start);
+        }
+        return true;
+    }
+
+    /**
+     * 타입별 통계 한 줄씩 (처리 횟수가 있는 타입만)
+     * 예: "WORD_INPUT count=1200 avg=3.1us max=420.0us"
+     */
+    public List<String> stats() {
+        List<String> lines = new ArrayList<>();
+        for (Route<C> route : routes.values()) {
+            long count = route.count.sum();
+            if (count == 0) continue;
+            lines.add(String.format("%s count=%d avg=%.1fus max=%.1fus",
+                    route.type, count,
+                    route.totalNanos.sum() / (double) count / 1000.0,
+                    route.maxNanos.get() / 1000.0));
+        }
+        long unknownCount = unknown.sum();
+        if (unknownCount > 0) {
+            lines.add("(미등록 타입) count=" + unknownCount);
+        }
+        return lines;
+    }
+
+    /**
+     * 통계를 DEBUG 로그로 출력
+     */
+    public void logStats() {
+        if (!Log.isEnabled(Log.Level.DEBUG)) return;
+        for (String line : stats()) {
+            Log.debug("[" + name + "] " + line);
+        }
+    }
+
+    private static final class Route<C> {
+        final String type;
+        final Handler<C> handler;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        Route(String type, Handler<C> handler) {
+            this.type = type;
+            this.handler = handler;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package common;
+
+/**
+ * 수신한 메시지의 DATA 부분 (key:value 필드들)을 읽는 인터페이스.
+ * 텍스트 프로토콜(TextFields)과 바이너리 프로토콜(MapFields)이 같은 방식으로 읽히도록 합니다.
+ */
+public interface MessageFields {
+
+    /**
+     * 필드가 없을 때 돌려주는 값 (기존 getAttributeValue 와 동일)
+     */
+    String UNKNOWN = "알 수 없음";
+
+    /**
+     * key 에 해당하는 값, 없으면 UNKNOWN
+     */
+    String get(String key);
+
+    /**
+     * key 이후 DATA 끝까지의 문자열.
+     * 값 안에 ';' 가 들어가는 필드(ROOM_LIST_RES 의 list 등)를 읽을 때 사용합니다.
+     */
+    String getRest(String key);
+
+    default boolean has(String key) {
+        return !UNKNOWN.equals(get(key));
+    }
+
+    /**
+     * 정수 필드. 없거나 숫자가 아니면 NumberFormatException
+     */
+    default int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+}
@@ -0,0 +1,155 @@
+package common;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 텍스트 프로토콜 DATA 부분 ("key:value;key:value;") 을 읽는 MessageFields 구현.
+ *
+ * reset() 때 한 번만 훑어서 필드마다 key / ':' / 값 끝 위치만 기록해 두고,
+ * get() 은 그 위치로 바로 잘라내며 getInt() 는 문자열을 만들지 않고 숫자를 바로 읽습니다.
+ * 디코더가 인스턴스 하나를 메시지마다 재사용하므로, 값은 다음 메시지를 읽기 전에 꺼내 두어야 합니다.
+ */
+public class TextFields implements MessageFields {
+
+    private static final char FIELD_SEPARATOR = Protocol.FIELD_SEPARATOR.charAt(0);
+    private static final char DATA_SEPARATOR = Protocol.DATA_SEPARATOR.charAt(0);
+
+    private String data = "";
+    private int count;
+
+    // 필드 i: key = [keyStart[i], separator[i]), value = (separator[i], valueEnd[i])
+    private int[] keyStart = new int[8];
+    private int[] separator = new int[8];
+    private int[] valueEnd = new int[8];
+
+    public TextFields() {
+    }
+
+    public TextFields(String data) {
+        reset(data);
+    }
+
+    /**
+     * 새 DATA 문자열로 필드 위치를 다시 계산합니다. (한 번의 순회)
+     */
+    public TextFields reset(String data) {
+        this.data = data;
+        this.count = 0;
+
+        int length = data.length();
+        int start = 0;
+        int sep = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = (i < length) ? data.charAt(i) : DATA_SEPARATOR;
+            if (c == FIELD_SEPARATOR && sep < 0) {
+                sep = i;
+            } else if (c == DATA_SEPARATOR) {
+                if (sep > start) { // ':' 가 없거나 key 가 빈 항목은 무시
+                    add(start, sep, i);
+                }
+                start = i + 1;
+                sep = -1;
+            }
+        }
+        return this;
+    }
+
+    private void add(int start, int sep, int end) {
+        if (count == keyStart.length) {
+            int size = count * 2;
+            keyStart = Arrays.copyOf(keyStart, size);
+            separator = Arrays.copyOf(separator, size);
+            valueEnd = Arrays.copyOf(valueEnd, size);
+        }
+        keyStart[count] = start;
+        separator[count] = sep;
+        valueEnd[count] = end;
+        count++;
+    }
+
+    /**
+     * key 와 일치하는 첫 번째 필드 번호, 없으면 -1
+     */
+    private int indexOf(String key) {
+        int keyLength = key.length();
+        for (int i = 0; i < count; i++) {
+            if (separator[i] - keyStart[i] == keyLength
+                    && data.regionMatches(keyStart[i], key, 0, keyLength)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String get(String key) {
+        int i = indexOf(key);
+        return (i >= 0) ? data.substring(separator[i] + 1, valueEnd[i]) : UNKNOWN;
+    }
+
+    @Override
+    public String getRest(String key) {
+        int i = indexOf(key);
+        return (i >= 0) ? data.substring(separator[i] + 1) : UNKNOWN;
+    }
+
+    @Override
+    public boolean has(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * substring / Integer.parseInt 없이 값 위치에서 바로 정수를 읽습니다.
+     */
+    @Override
+    public int getInt(String key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            throw new NumberFormatException("필드 없음: " + key);
+        }
+
+        int pos = separator[i] + 1;
+        int end = valueEnd[i];
+        boolean negative = pos < end && data.charAt(pos) == '-';
+        if (negative || (pos < end && data.charAt(pos) == '+')) pos++;
+        if (pos >= end) {
+            throw new NumberFormatException(key + " 값이 비어 있습니다");
+        }
+
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = data.charAt(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(key + " 값이 숫자가 아닙니다: " + data.substring(separator[i] + 1, end));
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException(key + " 값이 너무 큽니다");
+            }
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException(key + " 값이 너무 큽니다");
+        }
+        return (int) value;
+    }
+
+    /**
+     * 모든 필드를 맵으로 변환 (텍스트 → 바이너리 재인코딩용)
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            map.putIfAbsent(data.substring(keyStart[i], separator[i]),
+                    data.substring(separator[i] + 1, valueEnd[i]));
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return data;
+    }
+}
@@ -0,0 +1,154 @@
+package common;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 텍스트 프로토콜 디코더: TYPE|LENGTH|DATA 의 LENGTH (DATA 의 문자 수, String.length() 기준) 만큼 잘라냅니다.
+ * - DATA 안에 줄바꿈이 있어도 메시지가 깨지지 않음 (채팅 여러 줄 등)
+ * - 메시지 뒤의 '\n' / "\r\n" 은 있으면 건너뛰고, 없어도 다음 메시지를 바로 이어서 읽음 (파이프라이닝)
+ * - LENGTH 가 숫자가 아니면 예전처럼 '\n' 까지를 한 메시지로 봄
+ *
+ * 정규식 split 없이 바이트에서 바로 '|' 위치를 찾고, 필드 인덱스(TextFields)는 디코더마다 하나를 재사용합니다.
+ * → 돌려준 Frame 의 필드는 다음 next() 호출 전까지만 유효합니다.
+ */
+public class TextFrameDecoder implements FrameDecoder {
+
+    private static final byte DELIMITER = (byte) Protocol.DELIMITER.charAt(0);
+    private static final int MAX_HEADER_SIZE = 256; // TYPE|LENGTH| 부분 최대 길이
+
+    private final TextFields fields = new TextFields();
+
+    @Override
+    public Frame next(ByteBuffer in) throws IOException {
+        while (true) {
+            skipLineBreaks(in);
+            int start = in.position();
+            int limit = in.limit();
+            if (start == limit) return null;
+
+            // 1. TYPE| 와 LENGTH| 위치 찾기 (그 전에 줄이 끝나면 형식이 틀린 줄)
+            int headerLimit = Math.min(limit, start + MAX_HEADER_SIZE);
+            int typeEnd = indexOfDelimiterOrNewline(in, start, headerLimit);
+            int lengthEnd = (typeEnd < 0 || in.get(typeEnd) != DELIMITER)
+                    ? typeEnd : indexOfDelimiterOrNewline(in, typeEnd + 1, headerLimit);
+
+            if (lengthEnd < 0) {
+                if (headerLimit < limit || limit - start >= MAX_HEADER_SIZE) {
+                    throw new ProtocolException("메시지 헤더가 너무 깁니다");
+                }
+                return null; // 헤더가 아직 덜 옴
+            }
+            if (in.get(lengthEnd) != DELIMITER) {
+                in.position(lengthEnd + 1); // "TYPE\n" 처럼 '|' 가 모자란 줄은 무시
+                continue;
+            }
+
+            String type = decode(in, start, typeEnd);
+            int declared = parseLength(in, typeEnd + 1, lengthEnd);
+            int dataStart = lengthEnd + 1;
+
+            // 2. DATA 끝 찾기
+            int dataEnd;
+            if (declared < 0) {
+                dataEnd = indexOf(in, (byte) '\n', dataStart, limit);
+                if (dataEnd < 0) {
+                    checkSize(limit - start);
+                    return null;
+                }
+                if (dataEnd > dataStart && in.get(dataEnd - 1) == '\r') dataEnd--;
+            } else {
+                if (declared > MAX_FRAME_SIZE) {
+                    throw new ProtocolException("메시지가 너무 깁니다: " + declared + " chars");
+                }
+                dataEnd = skipChars(in, dataStart, limit, declared);
+                if (dataEnd < 0) {
+                    checkSize(limit - start);
+                    return null; // DATA 가 아직 덜 옴
+                }
+            }
+
+            in.position(dataEnd);
+            fields.reset(decode(in, dataStart, dataEnd));
+            skipLineBreaks(in);
+            return new Frame(type, fields);
+        }
+    }
+
+    /**
+     * from 부터 UTF-8 로 인코딩된 문자를 count 개 (UTF-16 단위) 건너뛴 위치, 바이트가 모자라면 -1
+     */
+    private static int skipChars(ByteBuffer in, int from, int limit, int count) throws ProtocolException {
+        int pos = from;
+        int chars = 0;
+        while (chars < count) {
+            if (pos >= limit) return -1;
+            int b = in.get(pos) & 0xFF;
+            int size;
+            if (b < 0x80) {
+                size = 1;
+            } else if (b >= 0xF0) {
+                size = 4;
+            } else if (b >= 0xE0) {
+                size = 3;
+            } else if (b >= 0xC0) {
+                size = 2;
+            } else {
+                throw new ProtocolException("잘못된 UTF-8 바이트");
+            }
+            pos += size;
+            chars += (size == 4) ? 2 : 1; // 4바이트 문자는 String 에서 서로게이트 쌍 (2 chars)
+        }
+        return (pos <= limit) ? pos : -1;
+    }
+
+    /**
+     * 10진수 LENGTH, 숫자가 아니면 -1
+     */
+    private static int parseLength(ByteBuffer in, int from, int to) {
+        if (from == to || to - from > 9) return -1;
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = in.get(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void skipLineBreaks(ByteBuffer in) {
+        while (in.hasRemaining()) {
+            byte b = in.get(in.position());
+            if (b != '\n' && b != '\r') return;
+            in.position(in.position() + 1);
+        }
+    }
+
+    private static void checkSize(int buffered) throws ProtocolException {
+        if (buffered > MAX_FRAME_SIZE) {
+            throw new ProtocolException("메시지가 너무 깁니다: " + buffered + " bytes");
+        }
+    }
+
+    private static int indexOfDelimiterOrNewline(ByteBuffer in, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = in.get(i);
+            if (b == DELIMITER || b == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static int indexOf(ByteBuffer in, byte target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (in.get(i) == target) return i;
+        }
+        return -1;
+    }
+
+    private static String decode(ByteBuffer in, int from, int to) {
+        // '|' 와 '\n' 은 ASCII 라 UTF-8 멀티바이트 문자 중간과 겹치지 않음
+        return new String(in.array(), in.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+    }
+}
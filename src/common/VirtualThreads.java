@@ -0,0 +1,56 @@
+package common;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드(JDK 21) 생성 도우미 (서버 VIRTUAL 모드 / 부하 테스트 공용).
+ *
+ * 나머지 코드는 JDK 17 로도 컴파일·실행되도록 Thread.ofVirtual() 을 리플렉션으로 한 번만 찾아 둡니다.
+ * 가상 스레드가 없는 JDK 에서는 isSupported() 가 false → 호출한 쪽에서 일반 스레드로 대신합니다.
+ */
+public final class VirtualThreads {
+
+    private static final ThreadFactory FACTORY = lookupFactory();
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return FACTORY != null;
+    }
+
+    /**
+     * 이름을 붙인 가상 스레드를 만들어 시작합니다. (isSupported() 가 false 면 IllegalStateException)
+     */
+    public static Thread start(String name, Runnable task) {
+        if (FACTORY == null) {
+            throw new IllegalStateException("가상 스레드를 지원하지 않는 JDK 입니다 (21 이상 필요)");
+        }
+        Thread thread = FACTORY.newThread(task);
+        thread.setName(name);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 가상 스레드가 있으면 가상 스레드, 없으면 데몬 일반 스레드로 시작합니다.
+     */
+    public static Thread startOrPlatform(String name, Runnable task) {
+        if (FACTORY != null) {
+            return start(name, task);
+        }
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    // Thread.ofVirtual().factory() (공개 인터페이스 Thread.Builder 의 메서드로 불러야 접근 검사를 통과)
+    private static ThreadFactory lookupFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null; // JDK 21 미만
+        }
+    }
+}
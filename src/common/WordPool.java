@@ -6,13 +6,17 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class WordPool {
 
-    private final List<String> words = new ArrayList<>();
+    private final List<String> loadedWords = new ArrayList<>();
+    // 로드가 끝난 뒤에는 읽기 전용 → getRandomWords 에 락이 필요 없음
+    private final List<String> words;
 
     public WordPool() {
         loadWordsFromResource();
+        words = List.copyOf(loadedWords);
     }
 
     private void loadWordsFromResource() {
@@ -21,7 +25,7 @@ public class WordPool {
         try (InputStream in = getClass().getClassLoader().getResourceAsStream("common/words.txt")) {
 
             if (in == null) {
-                System.err.println("WordPool: common/words.txt 리소스를 찾을 수 없습니다.");
+                Log.error("WordPool: common/words.txt 리소스를 찾을 수 없습니다.");
                 loadDefaultWords();
                 return;
             }
@@ -31,15 +35,15 @@ public class WordPool {
                 while ((line = br.readLine()) != null) {
                     String w = line.trim();
                     if (!w.isEmpty()) {
-                        words.add(w);
+                        loadedWords.add(w);
                     }
                 }
             }
 
-            System.out.println("WordPool: 단어 " + words.size() + "개 로드 완료");
+            Log.info("WordPool: 단어 " + loadedWords.size() + "개 로드 완료");
 
         } catch (IOException e) {
-            System.err.println("WordPool: 단어 파일 읽기 오류: " + e.getMessage());
+            Log.error("WordPool: 단어 파일 읽기 오류: " + e.getMessage());
             loadDefaultWords();
         }
     }
@@ -48,22 +52,30 @@ public class WordPool {
      * words.txt 못 읽었을 때 기본 단어
      */
     private void loadDefaultWords() {
-        Collections.addAll(words,
+        Collections.addAll(loadedWords,
                 "사과", "바나나", "포도", "딸기", "수박",
                 "감자", "고구마", "딸기우유", "초콜릿", "커피"
         );
-        System.out.println("WordPool: 기본 단어로 대체됨 (" + words.size() + "개)");
+        Log.info("WordPool: 기본 단어로 대체됨 (" + loadedWords.size() + "개)");
     }
 
     /**
      * 중복 없이 랜덤하게 count개 뽑기
+     * (synchronized 없이 호출 스레드마다 복사본을 앞쪽 count개만 섞음 → 가상 스레드 pinning 없음)
      */
-    public synchronized List<String> getRandomWords(int count) {
+    public List<String> getRandomWords(int count) {
         if (words.isEmpty()) return Collections.emptyList();
 
-        List<String> copy = new ArrayList<>(words);
-        Collections.shuffle(copy);
-        if (count > copy.size()) count = copy.size();
-        return new ArrayList<>(copy.subList(0, count));
+        String[] copy = words.toArray(new String[0]);
+        if (count > copy.length) count = copy.length;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(copy.length - i);
+            String tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return new ArrayList<>(Arrays.asList(copy).subList(0, count));
     }
 }
@@ -0,0 +1,410 @@
+package loadtest;
+
+import common.BinaryProtocol;
+import common.Frame;
+import common.FrameReader;
+import common.MessageFields;
+import common.Protocol;
+import common.TextFrameDecoder;
+import common.VirtualThreads;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 화면 없이 ServerConnection 과 같은 프로토콜로 게임 1판을 하는 봇.
+ *
+ * 로그인 → (방장이면 방 생성) → 입장 → 준비 → (방장이면 전원 준비 시 시작 요청)
+ * → GAME_START 보드에서 아직 우리 팀이 아닌 카드 단어를 WPM 속도로 입력 → GAME_END 에서 종료.
+ *
+ * 수신은 봇마다 가상 스레드 1개, 입력은 게임 중에만 가상 스레드 1개.
+ * 캡처 지연 = WORD_INPUT 을 보낸 시각 → 그 카드가 우리 팀으로 바뀐 GAME_UPDATE 를 받은 시각.
+ * 서버는 누가 뒤집었는지 알려 주지 않으므로, 같은 팀 봇끼리 보드를 나눠 (카드 번호 % 팀 인원) 자기 몫만 노림
+ * → 내 몫의 카드가 우리 팀으로 바뀌었다면 내 입력 때문. 팀원 입력이 지연을 짧게 잡히게 하지 않음.
+ */
+final class Bot implements Runnable {
+
+    private final int id;
+    private final int requestedTeam;
+    private final boolean host;
+    private final LoadTest.RoomGroup group;
+    private final LoadTest.Config config;
+    private final LoadTest.Totals totals;
+    final LatencyRecorder latencies = new LatencyRecorder();
+
+    private volatile Socket socket; // stop() 은 다른 스레드에서 호출
+    private OutputStream out;
+    private FrameReader reader;
+    private final ReentrantLock writeLock = new ReentrantLock(); // 가상 스레드에서 synchronized 대신
+    private volatile boolean binary = false;
+    private volatile int team; // 서버가 정한 팀 (ROOM_JOIN_RES)
+    private String createdRoomId; // 방장만 (수신 스레드에서만 접근)
+    private String playerId;      // 수신 스레드에서만 접근
+    private String lastPlayers = ""; // 마지막 ROOM_UPDATE 의 players (게임 시작 때 팀 내 순번 계산용)
+
+    // 게임 상태 (수신 스레드가 쓰고 입력 스레드가 읽음)
+    private volatile String[] words;
+    private volatile AtomicIntegerArray owners;
+    private volatile boolean playing = false;
+    private volatile int teamSlot;  // 같은 팀 안에서 내 순번 (0 부터)
+    private volatile int teamSize = 1;
+    private boolean startRequested = false; // 수신 스레드에서만 접근
+    private Thread typer;
+    // 카드 인덱스 → 마지막으로 그 단어를 보낸 시각 (nanoTime)
+    private final Map<Integer, Long> pendingCaptures = new ConcurrentHashMap<>();
+
+    Bot(int id, int requestedTeam, boolean host, LoadTest.RoomGroup group, LoadTest.Config config, LoadTest.Totals totals) {
+        this.id = id;
+        this.requestedTeam = requestedTeam;
+        this.host = host;
+        this.group = group;
+        this.config = config;
+        this.totals = totals;
+    }
+
+    @Override
+    public void run() {
+        try (Socket s = new Socket(config.host, config.port)) {
+            socket = s;
+            s.setTcpNoDelay(true);
+            out = new BufferedOutputStream(s.getOutputStream());
+            reader = new FrameReader(s.getInputStream(), new TextFrameDecoder());
+            totals.connected.increment();
+
+            Map<String, String> login = new HashMap<>();
+            login.put("playerName", "bot" + id);
+            if (config.binary) {
+                login.put(BinaryProtocol.CODEC_FIELD, BinaryProtocol.CODEC_BINARY);
+            }
+            send(Protocol.LOGIN_REQ, login);
+
+            while (reader.readBatch(this::onFrame)) {
+                // GAME_END 에서 소켓을 닫으면 끝남
+            }
+        } catch (IOException e) {
+            if (!closedByUs()) {
+                totals.errors.increment();
+            }
+        } finally {
+            playing = false;
+            if (typer != null) typer.interrupt();
+            if (host) {
+                group.roomId.completeExceptionally(new IllegalStateException("방장 종료")); // 방을 못 만들었으면 대기 해제
+            }
+        }
+    }
+
+    private boolean closedByUs() {
+        return socket != null && socket.isClosed();
+    }
+
+    // ================== 수신 (수신 스레드) ==================
+
+    private void onFrame(Frame frame) {
+        totals.received.increment();
+        String type = frame.getType();
+        MessageFields fields = frame.getFields();
+
+        switch (type) {
+            case Protocol.LOGIN_RES -> onLogin(fields);
+            case Protocol.ROOM_CREATE_RES -> onRoomCreated(fields);
+            case Protocol.ROOM_JOIN_RES -> onJoined(fields);
+            case Protocol.ROOM_UPDATE -> onRoomUpdate(fields);
+            case Protocol.GAME_START -> onGameStart(fields);
+            case Protocol.GAME_UPDATE -> onGameUpdate(fields);
+            case Protocol.GAME_END -> onGameEnd();
+            case Protocol.ERROR -> totals.errors.increment();
+            default -> { }
+        }
+    }
+
+    private void onLogin(MessageFields fields) {
+        if (!"SUCCESS".equals(fields.get("status"))) {
+            totals.errors.increment();
+            close();
+            return;
+        }
+        playerId = fields.get("playerId");
+        if (BinaryProtocol.CODEC_BINARY.equals(fields.get(BinaryProtocol.CODEC_FIELD))) {
+            reader.setDecoder(new BinaryProtocol.Decoder());
+            binary = true;
+        }
+
+        if (host) {
+            Map<String, String> data = new HashMap<>();
+            data.put("roomName", "load-" + id);
+            data.put("maxPlayers", String.valueOf(config.roomSize));
+            send(Protocol.ROOM_CREATE_REQ, data);
+            return;
+        }
+
+        // 방장이 방을 만들 때까지 대기 (이 봇은 아직 받을 메시지가 없으므로 수신 스레드에서 기다려도 됨)
+        try {
+            join(group.roomId.get(config.timeoutSec, TimeUnit.SECONDS));
+        } catch (Exception e) {
+            totals.errors.increment();
+            close();
+        }
+    }
+
+    private void onRoomCreated(MessageFields fields) {
+        if (!"SUCCESS".equals(fields.get("status"))) {
+            totals.errors.increment();
+            close();
+            return;
+        }
+        createdRoomId = fields.get("roomId");
+        join(createdRoomId);
+    }
+
+    private void join(String roomId) {
+        Map<String, String> data = new HashMap<>();
+        data.put("roomId", roomId);
+        data.put("team", String.valueOf(requestedTeam));
+        send(Protocol.ROOM_JOIN_REQ, data);
+    }
+
+    private void onJoined(MessageFields fields) {
+        if (!"SUCCESS".equals(fields.get("status"))) {
+            totals.joinFailures.increment();
+            close();
+            return;
+        }
+        team = parseOrZero(fields.get("team"));
+        if (host) {
+            // 서버는 처음 입장한 사람을 방장으로 정하므로, 방장 봇이 들어간 뒤에야 나머지에게 방 번호를 알림
+            group.roomId.complete(createdRoomId);
+        }
+        Map<String, String> data = new HashMap<>();
+        data.put("ready", "true");
+        send(Protocol.GAME_READY, data);
+    }
+
+    /**
+     * 방장만: 정원이 다 차고 전원 준비되면 시작 요청 1번
+     * players 형식: "P1:이름:팀:ready@P2:이름:팀:notready..."
+     */
+    private void onRoomUpdate(MessageFields fields) {
+        String players = fields.get("players");
+        lastPlayers = players;
+        if (!host || startRequested) return;
+
+        int ready = 0;
+        int count = 0;
+        for (String p : players.split("@")) {
+            if (p.isEmpty()) continue;
+            count++;
+            if (p.endsWith(":ready")) ready++;
+        }
+        if (count == config.roomSize && ready == count) {
+            startRequested = true;
+            Map<String, String> data = new HashMap<>();
+            data.put("roomId", fields.get("roomId"));
+            send(Protocol.GAME_START_REQ, data);
+        }
+    }
+
+    private void onGameStart(MessageFields fields) {
+        String[] entries = fields.get("board").split("/");
+        String[] boardWords = new String[entries.length];
+        AtomicIntegerArray boardOwners = new AtomicIntegerArray(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            int comma = entries[i].lastIndexOf(',');
+            boardWords[i] = (comma < 0) ? entries[i] : entries[i].substring(0, comma);
+            boardOwners.set(i, (comma < 0) ? 0 : parseOrZero(entries[i].substring(comma + 1)));
+        }
+        assignTeamSlot();
+        words = boardWords;
+        owners = boardOwners;
+        playing = true;
+        if (host) totals.gamesStarted.increment();
+
+        typer = VirtualThreads.startOrPlatform("typer-" + id, this::typeLoop);
+    }
+
+    /**
+     * 마지막 ROOM_UPDATE 의 players ("P1:이름:팀:ready@...") 에서 같은 팀 인원과 내 순번.
+     * 모든 봇이 같은 문자열을 받으므로 팀원끼리 순번이 겹치지 않음
+     */
+    private void assignTeamSlot() {
+        int slot = 0;
+        int size = 0;
+        for (String p : lastPlayers.split("@")) {
+            String[] parts = p.split(":");
+            if (parts.length < 3 || parseOrZero(parts[2]) != team) continue;
+            if (parts[0].equals(playerId)) slot = size;
+            size++;
+        }
+        teamSlot = slot;
+        teamSize = Math.max(1, size);
+    }
+
+    private boolean isMyCard(int index) {
+        return index % teamSize == teamSlot;
+    }
+
+    private void onGameUpdate(MessageFields fields) {
+        AtomicIntegerArray boardOwners = owners;
+        if (boardOwners == null) return;
+        long now = System.nanoTime();
+
+        // 변경분 먼저 (같은 메시지의 스냅샷이 변경분 기록을 지우지 않도록)
+        String changes = fields.get("changes");
+        if (!MessageFields.UNKNOWN.equals(changes) && !changes.isEmpty()) {
+            for (String change : changes.split("/")) {
+                String[] p = change.split(",");
+                if (p.length < 2) continue;
+                int index = parseOrZero(p[0]);
+                int newTeam = parseOrZero(p[1]);
+                if (index < 0 || index >= boardOwners.length()) continue;
+                boardOwners.set(index, newTeam);
+
+                Long sentAt = pendingCaptures.remove(index);
+                // 내 몫의 카드만 보내므로 우리 팀으로 바뀌었으면 내 입력. 상대 팀이 가져간 경우는 버림
+                if (sentAt != null && newTeam == team) {
+                    latencies.record(TimeUnit.NANOSECONDS.toMicros(now - sentAt));
+                }
+            }
+        }
+
+        String owners = fields.get("owners");
+        if (!MessageFields.UNKNOWN.equals(owners)) {
+            String[] teams = owners.split(",");
+            for (int i = 0; i < teams.length && i < boardOwners.length(); i++) {
+                int newTeam = parseOrZero(teams[i]);
+                if (boardOwners.getAndSet(i, newTeam) != newTeam) {
+                    pendingCaptures.remove(i); // 변경분 없이 스냅샷으로만 알게 된 변화 → 언제 바뀌었는지 모름
+                }
+            }
+        }
+    }
+
+    private void onGameEnd() {
+        playing = false;
+        if (host) totals.gamesEnded.increment();
+        close(); // readBatch 가 끝나고 run() 이 정리
+    }
+
+    // ================== 입력 (입력 스레드) ==================
+
+    /**
+     * 우리 팀이 아닌 카드 하나를 골라 "타이핑 시간" 만큼 쉬었다가 전송. 오타율만큼은 틀린 단어를 보냄
+     */
+    private void typeLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] boardWords = words;
+        AtomicIntegerArray boardOwners = owners;
+
+        try {
+            while (playing) {
+                int target = pickTarget(boardWords, boardOwners, random);
+                // 내 몫이 전부 우리 팀이면 보드를 바꾸지 않는 입력 (팀원 몫 카드를 대신 뒤집지 않도록)
+                String word = (target < 0) ? idleWord(boardWords, random) : boardWords[target];
+
+                // 1단어 = 5타 기준 WPM → 글자당 ms. 글자 수 + 엔터 1타
+                long typingMillis = (long) ((word.length() + 1) * config.millisPerChar());
+                Thread.sleep(Math.max(1, typingMillis));
+                if (!playing) break;
+
+                boolean typo = random.nextDouble() < config.errorRate;
+                Map<String, String> data = new HashMap<>();
+                data.put("word", typo ? word + "ㅋ" : word);
+                if (!typo && target >= 0) {
+                    pendingCaptures.put(target, System.nanoTime());
+                }
+                send(Protocol.WORD_INPUT, data);
+                totals.wordsSent.increment();
+                if (typo) totals.typos.increment();
+            }
+        } catch (InterruptedException ignored) {
+            // 종료
+        }
+    }
+
+    /**
+     * 내 몫(카드 번호 % 팀 인원 == 내 순번) 중 아직 우리 팀이 아닌 카드
+     */
+    private int pickTarget(String[] boardWords, AtomicIntegerArray boardOwners, ThreadLocalRandom random) {
+        int n = boardWords.length;
+        int start = random.nextInt(n);
+        for (int i = 0; i < n; i++) {
+            int index = (start + i) % n;
+            if (isMyCard(index) && boardOwners.get(index) != team) return index;
+        }
+        return -1; // 내 몫이 전부 우리 팀
+    }
+
+    /**
+     * 보드를 바꾸지 않는 입력: 이미 우리 팀인 내 몫 카드, 내 몫이 없으면 보드에 없는 단어
+     */
+    private String idleWord(String[] boardWords, ThreadLocalRandom random) {
+        int n = boardWords.length;
+        int start = random.nextInt(n);
+        for (int i = 0; i < n; i++) {
+            int index = (start + i) % n;
+            if (isMyCard(index)) return boardWords[index];
+        }
+        return "대기" + id + "ㅋ";
+    }
+
+    /**
+     * 시간 초과 시 LoadTest 가 호출: 소켓을 닫아 수신 스레드가 끝나게 함
+     */
+    void stop() {
+        close();
+    }
+
+    // ================== 송신 ==================
+
+    private void send(String type, Map<String, String> data) {
+        byte[] bytes;
+        if (binary) {
+            bytes = BinaryProtocol.encode(type, data);
+        } else {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                sb.append(entry.getKey()).append(Protocol.FIELD_SEPARATOR)
+                        .append(entry.getValue()).append(Protocol.DATA_SEPARATOR);
+            }
+            String payload = sb.toString();
+            bytes = (type + Protocol.DELIMITER + payload.length() + Protocol.DELIMITER + payload + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        writeLock.lock();
+        try {
+            out.write(bytes);
+            out.flush();
+            totals.sent.increment();
+        } catch (IOException e) {
+            close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void close() {
+        playing = false;
+        try {
+            if (socket != null) socket.close();
+        } catch (IOException ignored) {}
+    }
+
+    private static int parseOrZero(String s) {
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
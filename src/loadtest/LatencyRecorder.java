@@ -0,0 +1,51 @@
+package loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 봇 1개의 캡처 지연 기록 (수신 스레드 1개만 기록 → 락 없음).
+ * 끝나면 LoadTest 가 모든 봇 기록을 합쳐 정렬한 뒤 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[64]; // 마이크로초
+    private int size = 0;
+
+    void record(long micros) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = micros;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 여러 봇의 기록을 하나로 합쳐 정렬 (모든 봇이 끝난 뒤 호출)
+     */
+    static long[] mergeSorted(Iterable<LatencyRecorder> recorders) {
+        int total = 0;
+        for (LatencyRecorder r : recorders) {
+            total += r.size;
+        }
+        long[] all = new long[total];
+        int pos = 0;
+        for (LatencyRecorder r : recorders) {
+            System.arraycopy(r.samples, 0, all, pos, r.size);
+            pos += r.size;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    /**
+     * 정렬된 배열의 백분위 값 (nearest-rank)
+     */
+    static long percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,174 @@
+package loadtest;
+
+import common.Log;
+import common.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 화면 없는 부하 테스트 클라이언트: 봇 수천 개가 한 JVM 에서 동시에 게임을 합니다.
+ *
+ * 실행: java -cp out -Dload.bots=2000 -Dload.roomSize=4 loadtest.LoadTest
+ *
+ * - 봇은 roomSize 명씩 방 1개: 첫 번째 봇이 방을 만들고, 나머지는 입장 → 전원 준비되면 방장이 시작
+ * - 봇마다 가상 스레드 (블로킹 소켓이어도 OS 스레드 수천 개를 만들지 않음, JDK 21 미만이면 일반 스레드)
+ * - 끝나면 처리량(단어/초, 메시지/초)과 캡처 지연 백분위를 INFO 로그로 출력
+ *
+ * 설정 (-D):
+ *   load.host / load.port      서버 주소 (127.0.0.1 / 12345)
+ *   load.bots                  봇 수 (1000, roomSize 의 배수로 올림)
+ *   load.roomSize              방 인원 (4)
+ *   load.wpm                   봇 타자 속도, 분당 단어 (60, 1단어 = 5타)
+ *   load.errorRate             오타 비율 0~1 (0.05)
+ *   load.codec                 binary | text (binary)
+ *   load.rampMillis            봇 접속을 이 시간에 나눠서 시작 (5000)
+ *   load.timeoutSec            전체 대기 한도 (180)
+ */
+public class LoadTest {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final long STOP_WAIT_MILLIS = 5000; // 시간 초과 후 봇 스레드가 끝나기를 기다리는 한도
+
+    static final class Config {
+        final String host = System.getProperty("load.host", "127.0.0.1");
+        final int port = Integer.getInteger("load.port", 12345);
+        final int roomSize = Math.max(2, Integer.getInteger("load.roomSize", 4));
+        final int bots = roundUp(Math.max(1, Integer.getInteger("load.bots", 1000)), roomSize);
+        final int wpm = Math.max(1, Integer.getInteger("load.wpm", 60));
+        final double errorRate = Math.min(1.0, Math.max(0.0,
+                Double.parseDouble(System.getProperty("load.errorRate", "0.05"))));
+        final boolean binary = !"text".equalsIgnoreCase(System.getProperty("load.codec", "binary"));
+        final long rampMillis = Math.max(0, Long.getLong("load.rampMillis", 5000L));
+        final long timeoutSec = Math.max(1, Long.getLong("load.timeoutSec", 180L));
+
+        /**
+         * WPM → 글자 1개 치는 시간 (ms)
+         */
+        double millisPerChar() {
+            return 60_000.0 / (wpm * 5.0);
+        }
+
+        private static int roundUp(int value, int unit) {
+            return ((value + unit - 1) / unit) * unit;
+        }
+    }
+
+    /**
+     * 봇 전체 합계 (봇 스레드 여러 개가 동시에 더하므로 LongAdder)
+     */
+    static final class Totals {
+        final LongAdder connected = new LongAdder();
+        final LongAdder joinFailures = new LongAdder();
+        final LongAdder gamesStarted = new LongAdder();
+        final LongAdder gamesEnded = new LongAdder();
+        final LongAdder wordsSent = new LongAdder();
+        final LongAdder typos = new LongAdder();
+        final LongAdder sent = new LongAdder();
+        final LongAdder received = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * 방 1개를 같이 쓰는 봇 묶음: 방장이 만든 roomId 를 나머지가 기다림
+     */
+    static final class RoomGroup {
+        final CompletableFuture<String> roomId = new CompletableFuture<>();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config config = new Config();
+        Totals totals = new Totals();
+
+        Log.info(String.format("부하 테스트 시작: %s:%d 봇 %d개 (방 %d개 x %d명) wpm=%d 오타율=%.2f codec=%s",
+                config.host, config.port, config.bots, config.bots / config.roomSize, config.roomSize,
+                config.wpm, config.errorRate, config.binary ? "binary" : "text"));
+
+        List<Bot> bots = new ArrayList<>(config.bots);
+        List<Thread> threads = new ArrayList<>(config.bots);
+        CountDownLatch finished = new CountDownLatch(config.bots);
+        long delayNanos = (config.bots > 1) ? TimeUnit.MILLISECONDS.toNanos(config.rampMillis) / config.bots : 0;
+        long started = System.nanoTime();
+
+        RoomGroup group = null;
+        for (int i = 0; i < config.bots; i++) {
+            int seat = i % config.roomSize;
+            if (seat == 0) group = new RoomGroup();
+
+            Bot bot = new Bot(i, seat % 2 + 1, seat == 0, group, config, totals);
+            bots.add(bot);
+            threads.add(VirtualThreads.startOrPlatform("bot-" + i, () -> {
+                try {
+                    bot.run();
+                } finally {
+                    finished.countDown();
+                }
+            }));
+
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+        }
+
+        if (!finished.await(config.timeoutSec, TimeUnit.SECONDS)) {
+            Log.warn("시간 초과: 아직 끝나지 않은 봇 " + finished.getCount() + "개를 멈춥니다 (결과는 지금까지 기준)");
+            for (int i = 0; i < bots.size(); i++) {
+                bots.get(i).stop();          // 소켓을 닫아 수신 스레드를 깨움
+                threads.get(i).interrupt();  // 방 번호를 기다리던 봇도 깨움
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        // 지연 기록은 각 봇의 수신 스레드만 씀 → 그 스레드가 끝난 것을 join 으로 확인한 뒤에만 읽음
+        long joinDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STOP_WAIT_MILLIS);
+        List<LatencyRecorder> recorders = new ArrayList<>(bots.size());
+        int unfinished = 0;
+        for (int i = 0; i < bots.size(); i++) {
+            long waitMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(joinDeadline - System.nanoTime()));
+            threads.get(i).join(waitMillis);
+            if (!threads.get(i).isAlive()) {
+                recorders.add(bots.get(i).latencies);
+            } else {
+                unfinished++;
+            }
+        }
+        if (unfinished > 0) {
+            Log.warn("끝나지 않은 봇 " + unfinished + "개의 지연 기록은 제외합니다");
+        }
+
+        report(config, totals, recorders, seconds);
+        // 남은 봇 스레드가 있어도 종료. 비동기 로그는 Log 의 종료 훅(log-flush)이 남은 줄을 모두 출력한 뒤 끝남
+        System.exit(0);
+    }
+
+    private static void report(Config config, Totals totals, List<LatencyRecorder> recorders, double seconds) {
+        long[] sorted = LatencyRecorder.mergeSorted(recorders);
+
+        Log.info(String.format("접속 %d / %d, 입장 실패 %d, 게임 시작 %d / 종료 %d, 오류 %d",
+                totals.connected.sum(), config.bots, totals.joinFailures.sum(),
+                totals.gamesStarted.sum(), totals.gamesEnded.sum(), totals.errors.sum()));
+        Log.info(String.format("소요 %.1fs: 단어 %d개 (오타 %d) → %.1f 단어/s, 송신 %.1f msg/s, 수신 %.1f msg/s",
+                seconds, totals.wordsSent.sum(), totals.typos.sum(),
+                totals.wordsSent.sum() / seconds, totals.sent.sum() / seconds, totals.received.sum() / seconds));
+
+        if (sorted.length == 0) {
+            Log.info("캡처 지연: 표본 없음");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("캡처 지연 (").append(sorted.length).append("건):");
+        for (double p : PERCENTILES) {
+            sb.append(String.format(" p%s=%.2fms", formatPercent(p), LatencyRecorder.percentile(sorted, p) / 1000.0));
+        }
+        sb.append(String.format(" max=%.2fms", sorted[sorted.length - 1] / 1000.0));
+        Log.info(sb.toString());
+    }
+
+    private static String formatPercent(double p) {
+        return (p == Math.rint(p)) ? String.valueOf((long) p) : String.valueOf(p);
+    }
+}
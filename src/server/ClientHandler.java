@@ -1,108 +1,116 @@
 package server;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.net.Socket;
 import java.util.HashMap;
 import java.util.Map;
+import common.BinaryProtocol;
+import common.Frame;
+import common.Log;
+import common.MessageDispatcher;
+import common.MessageFields;
 import common.Protocol;
 import common.Player;
 
 public class ClientHandler implements Runnable {
-    private final Socket clientSocket;
+    // -Dserver.binary=false 로 바이너리 프로토콜 협상을 끌 수 있음 (항상 텍스트)
+    private static final boolean BINARY_ENABLED =
+            Boolean.parseBoolean(System.getProperty("server.binary", "true"));
+
+    // 메시지 타입 → 처리 메서드 (모든 연결이 같은 표를 공유, 타입별 처리 횟수/시간 집계)
+    static final MessageDispatcher<ClientHandler> DISPATCHER = new MessageDispatcher<ClientHandler>("서버 수신")
+            .on(Protocol.LOGIN_REQ, ClientHandler::handleLoginRequest)
+            .on(Protocol.ROOM_LIST_REQ, (handler, fields) -> handler.handleRoomListRequest()) // 방 목록 요청 처리
+            .on(Protocol.ROOM_CREATE_REQ, ClientHandler::handleRoomCreateRequest)               // 방 생성 요청 처리
+            .on(Protocol.ROOM_JOIN_REQ, ClientHandler::handleRoomJoinRequest)                   // 방 입장 요청 처리
+            .on(Protocol.GAME_READY, ClientHandler::handleGameReadyRequest)                     // 게임 준비/해제 처리
+            .on(Protocol.ROOM_LEAVE_REQ, (handler, fields) -> handler.handleRoomLeaveRequest()) // 방 나가기 요청 처리
+            .on(Protocol.WORD_INPUT, ClientHandler::handleWordInputRequest)                     // 단어 입력 요청 처리
+            .on(Protocol.GAME_START_REQ, ClientHandler::handleGameStartRequest)
+            .on(Protocol.CHAT_MSG, ClientHandler::handleChatMessage);
+
+    private final Socket clientSocket;   // 스레드 모드에서만 사용 (NIO 모드는 null)
+    private final boolean virtualThread; // 가상 스레드 모드에서 실행되는지 (그때만 송신 전용 writer 스레드를 둠)
     private final GameServer server;
-    private PrintWriter out;
-    private BufferedReader in;
+    private Transport transport;
     private String playerId;
     private String playerName;
-    private GameRoom currentRoom;
+    // 방 이벤트 스레드(입장 처리)에서 쓰고 수신 스레드에서 읽으므로 volatile
+    private volatile GameRoom currentRoom;
+    private volatile boolean disconnected = false;
 
     public ClientHandler(Socket socket, GameServer server) {
+        this(socket, server, false);
+    }
+
+    ClientHandler(Socket socket, GameServer server, boolean virtualThread) {
         this.clientSocket = socket;
         this.server = server;
+        this.virtualThread = virtualThread;
+    }
+
+    /**
+     * NIO 모드용 생성자: 읽기/쓰기는 NioConnection 이 담당하고 완성된 메시지만 넘겨받습니다.
+     */
+    ClientHandler(GameServer server, Transport transport) {
+        this.clientSocket = null;
+        this.virtualThread = false;
+        this.server = server;
+        this.transport = transport;
     }
 
     @Override
     public void run() {
         try {
             // 통신 스트림 초기화
-            out = new PrintWriter(clientSocket.getOutputStream(), true);
-            in = new BufferedReader(new InputStreamReader(clientSocket.getInputStream()));
+            SocketTransport socketTransport = new SocketTransport(clientSocket, virtualThread);
+            transport = socketTransport;
 
-            String rawMessage;
-            while ((rawMessage = in.readLine()) != null) {
-                System.out.println("서버 수신 [" + clientSocket.getInetAddress() + "]: " + rawMessage);
-                handleClientMessage(rawMessage);
+            while (socketTransport.readBatch(this::onFrame)) {
+                // 소켓 read 1번에 들어온 메시지들을 한꺼번에 처리
             }
         } catch (Exception e) {
-            System.out.println("클라이언트 연결 해제: " + (playerName != null ? playerName : "미로그인 사용자"));
+            // 연결 끊김 → finally 에서 정리
         } finally {
-            // 1. 방에 들어가 있었다면 방에서 제거
-            try {
-                if (currentRoom != null && playerId != null) {
-                    GameRoom roomToLeave = this.currentRoom;
-                    this.currentRoom = null;
-
-                    roomToLeave.removePlayer(this.playerId);
-                    // 다른 클라이언트들에게도 방 정보 갱신
-                    server.broadcastRoomUpdate(roomToLeave);
-                }
-            } catch (Exception ignore) {
-                // 로그만 남겨도 됨
-                // System.out.println("연결 종료 중 방 정리 오류: " + ignore.getMessage());
-            }
-
-            // 2. 클라이언트 목록에서 제거
-            server.removeClient(this);
-
-            // 3. 소켓 닫기
-            try { clientSocket.close(); } catch (Exception ignored) {}
+            onDisconnect();
         }
     }
 
+    /**
+     * 메시지 1개 수신 시 호출됩니다. (스레드 모드: 자기 스레드, NIO 모드: 이벤트 루프 스레드)
+     */
+    void onFrame(Frame frame) {
+        Log.wire(() -> "서버 수신 [" + transport.getRemoteAddress() + "]: " + frame);
+        DISPATCHER.dispatch(this, frame); // 모르는 타입은 무시
+    }
 
     /**
-     * 클라이언트 메시지를 파싱하고 처리합니다.
+     * 연결 종료 시 정리 작업. 한 번만 수행됩니다.
      */
-    private void handleClientMessage(String rawMessage) {
-        String[] parts = rawMessage.split("\\" + Protocol.DELIMITER, 3);
-        if (parts.length < 3) return;
-
-        String type = parts[0];
-        String dataPart = parts[2];
-
-        switch (type) {
-            case Protocol.LOGIN_REQ:
-                handleLoginRequest(dataPart);
-                break;
-            case Protocol.ROOM_LIST_REQ: // 방 목록 요청 처리
-                handleRoomListRequest();
-                break;
-            case Protocol.ROOM_CREATE_REQ: // 방 생성 요청 처리
-                handleRoomCreateRequest(dataPart);
-                break;
-            case Protocol.ROOM_JOIN_REQ: // 방 입장 요청 처리
-                handleRoomJoinRequest(dataPart);
-                break;
-            case Protocol.GAME_READY: // 게임 준비/해제 처리
-                handleGameReadyRequest(dataPart);
-                break;
-            case Protocol.ROOM_LEAVE_REQ: // 방 나가기 요청 처리
-                handleRoomLeaveRequest();
-                break;
-            case Protocol.WORD_INPUT: // 단어 입력 요청 처리
-                handleWordInputRequest(dataPart);
-                break;
-            case Protocol.GAME_START_REQ:
-                handleGameStartRequest(dataPart);
-                break;
-            case Protocol.CHAT_MSG:
-                handleChatMessage(dataPart);
-                break;
+    void onDisconnect() {
+        if (disconnected) return;
+        disconnected = true;
+
+        Log.info("클라이언트 연결 해제: " + (playerName != null ? playerName : "미로그인 사용자"));
+
+        // 1. 방에 들어가 있었다면 방에서 제거 (방 이벤트로)
+        GameRoom roomToLeave = this.currentRoom;
+        if (roomToLeave != null && playerId != null) {
+            this.currentRoom = null;
+            leaveRoom(roomToLeave, this.playerId);
+        }
+
+        // 2. 클라이언트 목록에서 제거
+        server.removeClient(this);
+
+        // 3. 소켓 닫기
+        if (transport != null) {
+            transport.close();
+        } else if (clientSocket != null) {
+            try { clientSocket.close(); } catch (Exception ignored) {}
         }
     }
 
+
     /**
      * ROOM_LIST_REQ 메시지 처리: 방 목록 응답 전송
      */
@@ -121,12 +129,12 @@ public class ClientHandler implements Runnable {
      * LOGIN_REQ 메시지 처리: 플레이어 정보 저장 후 LOGIN_RES 전송
      */
 
-    private void handleLoginRequest(String dataPart) {
-        // dataPart 예: playerName:정수연
-        String playerName = getAttributeValue(dataPart, "playerName");
+    private void handleLoginRequest(MessageFields fields) {
+        // fields 예: playerName:정수연
+        String playerName = fields.get("playerName");
 
-        // 1. 닉네임 중복 검사 먼저
-        if (server.isPlayerNameTaken(playerName)) {
+        // 1. 닉네임 선점 먼저 (검사와 등록을 한 번에 해서 동시 로그인 경합 방지)
+        if (!server.reservePlayerName(playerName, this)) {
             Map<String, String> responseData = new HashMap<>();
             responseData.put("status", "FAIL");
             responseData.put("reason", "DUPLICATE_NAME");
@@ -135,26 +143,47 @@ public class ClientHandler implements Runnable {
             return;
         }
 
+        // 다시 로그인하는 경우 이전 ID 는 반납, 닉네임이 바뀌었으면 이전 닉네임도 반납
+        if (this.playerId != null) {
+            String oldName = this.playerName;
+            this.playerName = null;
+            server.removeClient(this);
+            if (!playerName.equals(oldName)) {
+                server.releasePlayerName(oldName, this);
+            }
+        }
+
         // 2. 중복 아니면 ID 부여 후 정상 로그인 처리
         this.playerId = "P" + server.getNextPlayerId();
         this.playerName = playerName;
 
         server.addClient(this);
 
+        // 클라이언트가 바이너리 프로토콜을 원하면 수락 (LOGIN_RES 는 텍스트로 보내고 그 다음부터 전환)
+        boolean binary = BINARY_ENABLED
+                && BinaryProtocol.CODEC_BINARY.equals(fields.get(BinaryProtocol.CODEC_FIELD));
+
         Map<String, String> responseData = new HashMap<>();
         responseData.put("status", "SUCCESS");
         responseData.put("playerId", this.playerId);
         responseData.put("playerName", this.playerName);
+        if (binary) {
+            responseData.put(BinaryProtocol.CODEC_FIELD, BinaryProtocol.CODEC_BINARY);
+        }
 
         sendMessage(Protocol.LOGIN_RES, responseData);
+
+        if (binary) {
+            transport.useBinaryCodec();
+        }
     }
 
     /**
      * ROOM_CREATE_REQ 메시지 처리: 방 생성 후 ROOM_CREATE_RES 전송
      */
-    private void handleRoomCreateRequest(String dataPart) {
-        String roomName = getAttributeValue(dataPart, "roomName");
-        String maxPlayersStr = getAttributeValue(dataPart, "maxPlayers");
+    private void handleRoomCreateRequest(MessageFields fields) {
+        String roomName = fields.get("roomName");
+        String maxPlayersStr = fields.get("maxPlayers");
         int maxPlayers = Integer.parseInt(maxPlayersStr);
 
         // 실제 방 생성
@@ -176,38 +205,19 @@ public class ClientHandler implements Runnable {
     }
 
     /**
-     * 데이터 문자열에서 특정 속성 값 추출 (클라이언트 코드와 동일한 단순 파싱 로직)
+     * 클라이언트에게 메시지를 전송합니다.
      */
-    private String getAttributeValue(String data, String key) {
-        String pattern = key + Protocol.FIELD_SEPARATOR;
-        int start = data.indexOf(pattern);
-        if (start != -1) {
-            start += pattern.length();
-            int end = data.indexOf(Protocol.DATA_SEPARATOR, start);
-            return (end != -1) ? data.substring(start, end) : data.substring(start);
-        }
-        return "알 수 없음";
+    public void sendMessage(String type, Map<String, String> data) {
+        send(EncodedMessage.of(type, data));
     }
 
     /**
-     * 클라이언트에게 메시지를 전송합니다.
+     * 이미 직렬화된 메시지를 전송합니다. (브로드캐스트 시 같은 객체를 멤버 모두에게 전달)
      */
-    public void sendMessage(String type, Map<String, String> data) {
-        StringBuilder dataStr = new StringBuilder();
-        for (Map.Entry<String, String> entry : data.entrySet()) {
-            dataStr.append(entry.getKey())
-                    .append(Protocol.FIELD_SEPARATOR)
-                    .append(entry.getValue())
-                    .append(Protocol.DATA_SEPARATOR);
-        }
-
-        String dataPayload = dataStr.toString();
-        int length = dataPayload.length();
-
-        String message = type + Protocol.DELIMITER + length + Protocol.DELIMITER + dataPayload;
-
-        System.out.println("서버 전송 [" + playerName + "]: " + message);
-        out.println(message);
+    void send(EncodedMessage message) {
+        // 텍스트 줄은 로그를 켰을 때만 만듦 (바이너리 연결은 평소에 텍스트 직렬화를 하지 않음)
+        Log.wire(() -> "서버 전송 [" + playerName + "]: " + message.getLine());
+        transport.send(message);
     }
 
     // --- 방 입장/퇴장 핸들러 ---
@@ -215,24 +225,35 @@ public class ClientHandler implements Runnable {
     /**
      * ROOM_JOIN_REQ 처리: 방에 입장시키고 ROOM_JOIN_RES 전송 후 ROOM_UPDATE 브로드캐스트
      */
-    private void handleRoomJoinRequest(String dataPart) {
-        String roomId = getAttributeValue(dataPart, "roomId");
-        String teamStr = getAttributeValue(dataPart, "team");
+    private void handleRoomJoinRequest(MessageFields fields) {
+        String roomId = fields.get("roomId");
         int requestedTeam = 0;
         try {
-            requestedTeam = Integer.parseInt(teamStr);
+            requestedTeam = fields.getInt("team");
         } catch (NumberFormatException ignored) {}
 
         GameRoom room = server.getRoom(roomId);
-        Map<String, String> responseData = new HashMap<>();
-
         if (room == null) {
+            Map<String, String> responseData = new HashMap<>();
             responseData.put("status", "FAIL");
             responseData.put("message", "E007: 존재하지 않는 방입니다.");
             sendMessage(Protocol.ROOM_JOIN_RES, responseData);
             return;
         }
 
+        // 입장/팀 변경은 방 이벤트로 처리 (인원 수 확인과 추가가 다른 입장과 섞이지 않음)
+        int team = requestedTeam;
+        room.execute(() -> joinRoom(room, team));
+    }
+
+    /**
+     * 방 입장 또는 팀 변경 (방 이벤트 스레드)
+     */
+    private void joinRoom(GameRoom room, int requestedTeam) {
+        if (disconnected) return; // 이벤트가 실행되기 전에 연결이 끊김
+
+        Map<String, String> responseData = new HashMap<>();
+
         // 이미 그 방에 내가 들어가 있는 경우  → "팀 변경" 요청으로 처리
         if (room.hasPlayer(this.playerId)) {
             this.currentRoom = room;
@@ -281,8 +302,14 @@ public class ClientHandler implements Runnable {
         }
 
         Player player = new Player(this.playerId, this.playerName);
-        if (room.addPlayer(player, teamNumber)) {
+        if (room.addPlayer(player, teamNumber, this)) {
             this.currentRoom = room;
+            if (disconnected) {
+                // 입장 처리 중에 연결이 끊겼고 onDisconnect 가 아직 이 방을 못 봤을 수 있음 → 직접 정리
+                room.removePlayer(this.playerId);
+                server.broadcastRoomUpdate(room);
+                return;
+            }
 
             responseData.put("status", "SUCCESS");
             responseData.put("team", String.valueOf(teamNumber));
@@ -302,14 +329,17 @@ public class ClientHandler implements Runnable {
     /**
      * GAME_READY 요청 처리: 준비 상태 변경 후 ROOM_UPDATE 브로드캐스트
      */
-    private void handleGameReadyRequest(String dataPart) {
-        if (currentRoom == null) return;
+    private void handleGameReadyRequest(MessageFields fields) {
+        GameRoom room = currentRoom;
+        if (room == null) return;
 
-        boolean isReady = Boolean.parseBoolean(getAttributeValue(dataPart, "ready"));
-        currentRoom.setPlayerReady(this.playerId, isReady);
+        boolean isReady = Boolean.parseBoolean(fields.get("ready"));
+        room.execute(() -> {
+            room.setPlayerReady(this.playerId, isReady);
 
-        // 준비 상태 UI 갱신만 브로드캐스트
-        server.broadcastRoomUpdate(currentRoom);
+            // 준비 상태 UI 갱신만 브로드캐스트
+            server.broadcastRoomUpdate(room);
+        });
     }
 
 
@@ -317,54 +347,71 @@ public class ClientHandler implements Runnable {
      * ROOM_LEAVE_REQ 처리: 방에서 퇴장 후 ROOM_UPDATE 브로드캐스트
      */
     private void handleRoomLeaveRequest() {
-        if (currentRoom == null) return;
-
         GameRoom roomToLeave = this.currentRoom;
-        this.currentRoom = null;
+        if (roomToLeave == null) return;
 
-        roomToLeave.removePlayer(this.playerId);
+        this.currentRoom = null;
 
         // 클라이언트에게 ROOM_LEAVE_RES (별도 정의 필요) 대신,
         // 클라이언트에서 UI를 로비로 전환하고 ROOM_UPDATE를 브로드캐스트
-        server.broadcastRoomUpdate(roomToLeave);
+        leaveRoom(roomToLeave, this.playerId);
+    }
+
+    /**
+     * 방에서 빼고 남은 인원에게 ROOM_UPDATE (방 이벤트로 실행)
+     */
+    private void leaveRoom(GameRoom room, String leavingPlayerId) {
+        room.execute(() -> {
+            room.removePlayer(leavingPlayerId);
+            server.broadcastRoomUpdate(room);
+        });
     }
 
     /**
      * WORD_INPUT 요청 처리: GameServer로 단어 입력 전달
      */
-    private void handleWordInputRequest(String dataPart) {
-        if (currentRoom == null) return;
+    private void handleWordInputRequest(MessageFields fields) {
+        GameRoom room = currentRoom;
+        if (room == null) return;
 
-        String wordContent = getAttributeValue(dataPart, "word");
+        String wordContent = fields.get("word");
 
-        // GameServer를 통해 GameLogic으로 전달
-        server.handleWordInput(currentRoom.getRoomId(), this.playerId, wordContent);
+        // GameServer를 통해 GameLogic으로 전달 (방 이벤트로)
+        room.execute(() -> server.handleWordInput(room.getRoomId(), this.playerId, wordContent));
     }
 
     /**
      * GAME_START_REQ 처리: 방장 + 모두 준비 상태일 때만 게임 시작
      */
-    private void handleGameStartRequest(String dataPart) {
-        if (currentRoom == null) return;
+    private void handleGameStartRequest(MessageFields fields) {
+        GameRoom room = currentRoom;
+        if (room == null) return;
+
+        room.execute(() -> startGame(room));
+    }
 
+    /**
+     * 게임 시작 조건 확인 후 시작 (방 이벤트 스레드)
+     */
+    private void startGame(GameRoom room) {
         // 반드시 방장만 시작할 수 있게 체크
-        if (!playerId.equals(currentRoom.getRoomCreatorId())) {
+        if (!playerId.equals(room.getRoomCreatorId())) {
             // 방장이 아닌데 시작 요청하면 무시
             return;
         }
 
         // 모두 ready인지 확인 (한 명이라도 notready면 시작 안 함)
-        if (!currentRoom.isAllReady()) {
+        if (!room.isAllReady()) {
             // 아직 준비 안 된 사람이 있으면 시작 안 함 (지금은 조용히 무시)
             return;
         }
 
         // ★★★ 2인용 방이라면 팀 구성 추가 검사 ★★★
-        if (currentRoom.getMaxPlayers() == 2) {
+        if (room.getMaxPlayers() == 2) {
             int team1Count = 0;
             int team2Count = 0;
 
-            for (Player p : currentRoom.getPlayers().values()) {
+            for (Player p : room.getPlayers().values()) {
                 int t = p.getTeamNumber();
                 if (t == 1) team1Count++;
                 else if (t == 2) team2Count++;
@@ -385,33 +432,34 @@ public class ClientHandler implements Runnable {
         }
 
         // 여기서만 진짜 게임 시작
-        server.startGame(currentRoom);
+        server.startGame(room);
     }
 
 
     /**
      * CHAT_MSG 처리: 현재 방의 모든 플레이어에게 채팅을 브로드캐스트합니다.
      */
-    private void handleChatMessage(String dataPart) {
+    private void handleChatMessage(MessageFields fields) {
         // 방에 속해있지 않으면 무시
-        if (currentRoom == null) {
+        GameRoom room = currentRoom;
+        if (room == null) {
             return;
         }
 
-        String message = getAttributeValue(dataPart, "message");
+        String message = fields.get("message");
         if (message == null || message.trim().isEmpty()
-                || "알 수 없음".equals(message)) {
+                || MessageFields.UNKNOWN.equals(message)) {
             return;
         }
 
         Map<String, String> data = new HashMap<>();
-        data.put("roomId", currentRoom.getRoomId());
+        data.put("roomId", room.getRoomId());
         data.put("senderId", this.playerId);
         data.put("senderName", this.playerName);
         data.put("message", message);
 
-        // 같은 방 모든 인원에게 브로드캐스트
-        server.broadcastToRoom(currentRoom, Protocol.CHAT_MSG, data);
+        // 같은 방 모든 인원에게 브로드캐스트 (입장/퇴장과 순서가 섞이지 않도록 방 이벤트로)
+        room.execute(() -> server.broadcastToRoom(room, Protocol.CHAT_MSG, data));
     }
 
 
@@ -0,0 +1,106 @@
+package server;
+
+import common.BinaryProtocol;
+import common.Protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 직렬화가 끝난 메시지.
+ * 방 브로드캐스트 시 한 번만 만들어서 모든 멤버의 Transport 에 그대로 넘깁니다.
+ * 텍스트 줄 / UTF-8 바이트 / 바이너리 프레임은 처음 필요할 때 1번씩만 만들어 공유합니다.
+ */
+final class EncodedMessage {
+
+    private final String type;
+    private final Map<String, String> data; // 만든 뒤에는 수정하지 않는 맵이어야 함
+
+    private volatile String line;
+    private volatile byte[] utf8Line;    // 텍스트 연결용 바이트
+    private volatile byte[] binaryFrame; // 바이너리 연결용 프레임
+
+    private EncodedMessage(String type, Map<String, String> data) {
+        this.type = type;
+        this.data = data;
+    }
+
+    /**
+     * type + data 맵으로 메시지를 만듭니다. 실제 직렬화는 연결 코덱에 맞춰 처음 요청될 때 수행됩니다.
+     */
+    static EncodedMessage of(String type, Map<String, String> data) {
+        return new EncodedMessage(type, data);
+    }
+
+    String getType() {
+        return type;
+    }
+
+    /**
+     * 보드 변경(changes) 이나 전체 점령 상태(owners) 없이 점수/시간만 담은 GAME_UPDATE 인지
+     */
+    boolean isTickOnlyUpdate() {
+        return Protocol.GAME_UPDATE.equals(type) && !data.containsKey("changes") && !data.containsKey("owners");
+    }
+
+    /**
+     * 전체 점령 상태 스냅샷을 담은 GAME_UPDATE 인지
+     */
+    boolean isBoardSnapshot() {
+        return Protocol.GAME_UPDATE.equals(type) && data.containsKey("owners");
+    }
+
+    /**
+     * 줄바꿈을 뺀 텍스트 프로토콜 문자열 (TYPE|LENGTH|DATA)
+     */
+    String getLine() {
+        String s = line;
+        if (s == null) {
+            StringBuilder dataStr = new StringBuilder();
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                dataStr.append(entry.getKey())
+                        .append(Protocol.FIELD_SEPARATOR)
+                        .append(entry.getValue())
+                        .append(Protocol.DATA_SEPARATOR);
+            }
+
+            String dataPayload = dataStr.toString();
+            int length = dataPayload.length();
+
+            s = type + Protocol.DELIMITER + length + Protocol.DELIMITER + dataPayload;
+            line = s;
+        }
+        return s;
+    }
+
+    /**
+     * 줄바꿈까지 포함한 UTF-8 바이트. 여러 연결이 같은 배열을 공유하므로 수정하면 안 됨
+     */
+    byte[] getUtf8Line() {
+        byte[] bytes = utf8Line;
+        if (bytes == null) {
+            bytes = (getLine() + "\n").getBytes(StandardCharsets.UTF_8);
+            utf8Line = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * 바이너리 프로토콜 프레임. 여러 연결이 같은 배열을 공유하므로 수정하면 안 됨
+     */
+    byte[] getBinaryFrame() {
+        byte[] bytes = binaryFrame;
+        if (bytes == null) {
+            bytes = BinaryProtocol.encode(type, data);
+            binaryFrame = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * 연결 코덱에 맞는 바이트
+     */
+    byte[] getBytes(boolean binary) {
+        return binary ? getBinaryFrame() : getUtf8Line();
+    }
+}
@@ -1,117 +1,314 @@
 package server;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 게임 1판의 보드 / 점수 / 타이머.
+ * 카드 점령 상태는 AtomicIntegerArray 에 (순번 << 2 | 팀) 으로 담고 CAS 로만 바꾸므로,
+ * applyWord 와 다른 스레드의 조회가 락 없이 섞여도 안전합니다.
+ * (상태 변경 - 단어 입력, 틱 - 은 방 이벤트 스레드에서 한 번에 하나씩 실행됨)
+ */
 class GameLogic {
 
     static final int GAME_DURATION = 60; // 60초 게임
+    static final int SNAPSHOT_INTERVAL = 5; // 5초마다 전체 점령 상태(owners) 재전송 → 클라이언트 재동기화용
+    // 보드 카드 수 (-Dserver.board.size, 기본 30). 앞 절반은 팀1, 나머지는 팀2 로 시작
+    static final int BOARD_SIZE = Math.max(2, Integer.getInteger("server.board.size", 30));
+    static final int DEFAULT_CARD_POINTS = 1; // 카드 1장 점수 (카드별로 다르게 줄 수 있음)
+    // 초당 GAME_UPDATE 방송 횟수 (-Dserver.tick.hz, 기본 0, 최대 20).
+    // 서버 전체에 하나인 고정 값: 시작할 때 한 번 읽고, 방마다 다르게 하거나 실행 중에 바꿀 수 없음
+    // 0 이면 이벤트 전용: 단어 입력 때만 보내고, SNAPSHOT_INTERVAL 마다 재동기화 스냅샷만 보냄
+    // (타이머 바는 클라이언트가 GAME_START 의 종료 시각으로 직접 움직이므로 매초 방송이 필요 없음)
+    static final int BROADCAST_HZ = Math.min(20, Math.max(0, Integer.getInteger("server.tick.hz", 0)));
 
     private final GameRoom room;
     private final List<Card> cards = new ArrayList<>();
-    private final ScheduledExecutorService scheduler;
+    // 정규화한 단어 → 카드 인덱스 (게임 생성 시 1번 만들고 이후 읽기 전용)
+    private final Map<String, Integer> indexByWord;
+    private final TimingWheel clock;
     private final GameServer server;
 
-    private ScheduledFuture<?> future;
-    private int remainingSeconds = GAME_DURATION;
+    private TimingWheel.Timeout broadcastTimer;
+    private TimingWheel.Timeout endTimer;
+    // 종료 시각 (System.nanoTime 기준). 남은 시간은 틱을 세지 않고 항상 이 값에서 계산 → 스케줄 지연이 게임 길이를 바꾸지 않음
+    private volatile long endNanos;
+    private int broadcastCount = 0; // 방 이벤트 스레드에서만 접근
+    private boolean ended = false;  // 방 이벤트 스레드에서만 접근
+
+    // 보드 변경 순번: 카드가 뒤집힐 때마다 1씩 증가
+    private final AtomicInteger boardSeq = new AtomicInteger();
+
+    // 카드별 상태: (마지막으로 뒤집힌 보드 순번 << 2) | 점령 팀. 순번 0 은 시작 상태
+    private final AtomicIntegerArray cardStates;
+
+    // 팀별 카드 수 / 점수 합계: 상위 32비트 = 팀1, 하위 32비트 = 팀2
+    // 한 번의 addAndGet 으로 두 팀 값이 같이 바뀌므로 읽을 때 항상 합이 맞음. 점수 조회 O(1)
+    private final AtomicLong teamCards = new AtomicLong();
+    private final AtomicLong teamPoints = new AtomicLong();
 
     GameLogic(GameRoom room,
               List<String> words,
-              ScheduledExecutorService scheduler,
+              TimingWheel clock,
               GameServer server) {
 
         this.room = room;
-        this.scheduler = scheduler;
+        this.clock = clock;
         this.server = server;
 
-        // 30개까지만 사용
-        int limit = Math.min(30, words.size());
+        // BOARD_SIZE 개까지만 사용
+        int limit = Math.min(BOARD_SIZE, words.size());
+        indexByWord = new HashMap<>(limit * 2);
+        cardStates = new AtomicIntegerArray(limit);
         for (int i = 0; i < limit; i++) {
-            int team = (i < 15) ? 1 : 2; // 처음 15개는 팀1(핑크), 나머지 15개는 팀2(연두)
-            cards.add(new Card(words.get(i), team));
+            int team = (i < limit / 2) ? 1 : 2; // 앞 절반은 팀1(핑크), 나머지는 팀2(연두)
+            Card card = new Card(words.get(i), DEFAULT_CARD_POINTS);
+            cards.add(card);
+            cardStates.set(i, pack(0, team));
+            teamCards.addAndGet(teamShift(team, 1));
+            teamPoints.addAndGet(teamShift(team, card.points));
+            indexByWord.putIfAbsent(normalize(words.get(i)), i); // 같은 단어가 두 번 있으면 앞 카드
         }
     }
 
+    private static int pack(int seq, int team) {
+        return (seq << 2) | team;
+    }
+
+    private static int teamOf(int state) {
+        return state & 0b11;
+    }
+
+    private static int seqOf(int state) {
+        return state >>> 2;
+    }
+
+    /**
+     * 팀 값 1개를 packed long 에 더할 수 있는 형태로 (팀1: 상위 32비트, 팀2: 하위 32비트)
+     */
+    private static long teamShift(int team, int amount) {
+        checkTeam(team);
+        return (team == 1) ? ((long) amount << 32) : amount;
+    }
+
+    /**
+     * packed 합계는 팀 1 / 2 자리만 있음 → 다른 값이 팀2 자리에 섞여 합계가 어긋나지 않도록 바로 실패
+     */
+    private static void checkTeam(int team) {
+        if (team != 1 && team != 2) {
+            throw new IllegalArgumentException("잘못된 팀 번호: " + team);
+        }
+    }
+
+    /**
+     * from 팀에서 to 팀으로 amount 만큼 옮기는 증분 (하위 값이 음수가 되지 않으므로 자리 내림 없음)
+     */
+    private static long transfer(int from, int to, int amount) {
+        return teamShift(to, amount) - teamShift(from, amount);
+    }
+
+    /**
+     * 단어 비교용 정규화 (앞뒤 공백 제거 + 대소문자 무시)
+     */
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
     void start() {
-        future = scheduler.scheduleAtFixedRate(() -> {
-            remainingSeconds--;
-            if (remainingSeconds <= 0) {
-                if (future != null) future.cancel(false);
-                server.onGameEnd(this);
-            } else {
-                server.onGameTick(this);
-            }
-        }, 1, 1, TimeUnit.SECONDS);
+        long now = System.nanoTime();
+        endNanos = now + TimeUnit.SECONDS.toNanos(GAME_DURATION);
+
+        // 시계 스레드는 작업을 방 대기열에 넣기만 함 → 방송/종료도 입력/입장과 같은 방 스레드에서 순서대로 처리
+        // 방송 시각은 시작 시각 + n×주기 의 절대 시각 (늦게 처리된 방송이 다음 방송을 밀지 않음)
+        long period = (BROADCAST_HZ > 0)
+                ? TimeUnit.SECONDS.toNanos(1) / BROADCAST_HZ
+                : TimeUnit.SECONDS.toNanos(SNAPSHOT_INTERVAL);
+        broadcastTimer = clock.scheduleAtFixedRate(room::execute, this::broadcast, now + period, period);
+        endTimer = clock.schedule(room::execute, this::end, endNanos);
+    }
+
+    /**
+     * 주기 방송 (방 이벤트 스레드)
+     */
+    private void broadcast() {
+        if (ended) return; // 종료 직전에 이미 대기열에 들어와 있던 방송
+        if (getRemainingMillis() <= 0) {
+            end(); // 종료 타이머보다 먼저 실행된 경우
+            return;
+        }
+        broadcastCount++;
+        server.onGameTick(this);
+    }
+
+    /**
+     * 종료 시각 도달 (방 이벤트 스레드)
+     */
+    private void end() {
+        if (ended) return;
+        ended = true;
+        if (broadcastTimer != null) broadcastTimer.cancel();
+        if (endTimer != null) endTimer.cancel();
+        server.onGameEnd(this);
     }
 
     /**
      * 플레이어가 단어를 입력했을 때 처리.
      * 해당 단어가 있으면 ownerTeam 을 입력한 사람의 팀으로 변경.
+     * 단어 → 인덱스 해시 조회라 보드 크기와 상관없이 O(1)
+     *
+     * 같은 카드를 동시에 잡으려 하면 CAS 에 먼저 성공한 쪽만 뒤집고, 나머지는 다시 시도하지 않고 -1.
+     * (상대 팀이 방금 가져간 카드를 같은 입력으로 곧바로 되뺏지 않도록 → 결과가 CAS 순서로만 결정됨)
+     *
+     * @return 뒤집힌 카드 인덱스, 변화가 없으면 -1
+     */
+    int applyWord(int team, String word) {
+        String target = normalize(word);
+        if (target.isEmpty()) return -1;
+
+        Integer index = indexByWord.get(target);
+        if (index == null) return -1;
+
+        if (team < 1 || team > 2) return -1;
+
+        int current = cardStates.get(index);
+        int previous = teamOf(current);
+        if (previous == team) {
+            // 이미 내 팀 색이면 변화 없음
+            return -1;
+        }
+
+        // 순번을 먼저 받아 두고 CAS. 실패하면 그 순번은 비워 둠 (순번은 증가하기만 하면 됨)
+        int seq = boardSeq.incrementAndGet();
+        if (!cardStates.compareAndSet(index, current, pack(seq, team))) {
+            return -1; // 다른 입력이 먼저 뒤집음
+        }
+
+        int points = cards.get(index).points;
+        teamCards.addAndGet(transfer(previous, team, 1));
+        teamPoints.addAndGet(transfer(previous, team, points));
+        return index;
+    }
+
+    /**
+     * 카드 1장의 변경 내역 (GAME_UPDATE 의 changes 항목)
+     * 예: "7,2,15" → 7번 카드가 2팀으로, 보드 순번 15
      */
-    boolean applyWord(int team, String word) {
-        String target = word.trim();
-        if (target.isEmpty()) return false;
-
-        for (Card c : cards) {
-            if (c.word.equalsIgnoreCase(target)) {
-                if (c.ownerTeam == team) {
-                    // 이미 내 팀 색이면 변화 없음
-                    return false;
-                }
-                c.ownerTeam = team;
-                return true;
-            }
+    String toChangeString(int index) {
+        int state = cardStates.get(index); // 팀과 순번을 한 번에 읽음
+        return index + "," + teamOf(state) + "," + seqOf(state);
+    }
+
+    /**
+     * 전체 점령 상태 스냅샷 (단어는 GAME_START 이후 바뀌지 않으므로 팀 번호만)
+     * 예: "1,2,2,1,..."
+     */
+    String toOwnersString() {
+        StringBuilder sb = new StringBuilder(cards.size() * 2);
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(teamOf(cardStates.get(i)));
         }
-        return false;
+        return sb.toString();
+    }
+
+    int getBoardSeq() {
+        return boardSeq.get();
+    }
+
+    /**
+     * 이번 방송에 전체 스냅샷을 같이 보내야 하는지 여부 (약 SNAPSHOT_INTERVAL 초마다 1번)
+     * 이벤트 전용(BROADCAST_HZ = 0)이면 주기 방송 자체가 스냅샷용
+     */
+    boolean isSnapshotTick() {
+        if (BROADCAST_HZ == 0) return true;
+        return broadcastCount % (SNAPSHOT_INTERVAL * BROADCAST_HZ) == 0;
     }
 
     /**
-     * 서버 → 클라이언트로 보내는 보드 상태 문자열
+     * 서버 → 클라이언트로 보내는 보드 상태 문자열 (GAME_START 에서 1번만 사용)
      * 예: "사과,1/바나나,2/포도,1/..."
      */
     String toBoardString() {
         StringBuilder sb = new StringBuilder();
-        for (Card c : cards) {
-            if (sb.length() > 0) sb.append('/');
-            sb.append(c.word).append(',').append(c.ownerTeam);
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) sb.append('/');
+            sb.append(cards.get(i).word).append(',').append(teamOf(cardStates.get(i)));
         }
         return sb.toString();
     }
 
+    /**
+     * 팀1 점수 (점령한 카드 점수 합계)
+     */
     int getScore1() {
-        int cnt = 0;
-        for (Card c : cards) {
-            if (c.ownerTeam == 1) cnt++;
-        }
-        return cnt;
+        return (int) (teamPoints.get() >>> 32);
     }
 
+    /**
+     * 팀2 점수 (점령한 카드 점수 합계)
+     */
     int getScore2() {
-        int cnt = 0;
-        for (Card c : cards) {
-            if (c.ownerTeam == 2) cnt++;
-        }
-        return cnt;
+        return (int) teamPoints.get();
+    }
+
+    /**
+     * 두 팀 점수를 같은 시점 값으로 [팀1, 팀2]
+     */
+    int[] getScores() {
+        long packed = teamPoints.get();
+        return new int[] { (int) (packed >>> 32), (int) packed };
+    }
+
+    /**
+     * 팀이 점령한 카드 수
+     */
+    int getCardCount(int team) {
+        checkTeam(team);
+        long packed = teamCards.get();
+        return (team == 1) ? (int) (packed >>> 32) : (int) packed;
     }
 
-    int getRemainingSeconds() {
-        return remainingSeconds;
+    int getCardPoints(int index) {
+        return cards.get(index).points;
+    }
+
+    /**
+     * 종료 시각까지 남은 시간 (ms). 시작 전이면 전체 시간
+     */
+    long getRemainingMillis() {
+        long end = endNanos;
+        if (end == 0) return TimeUnit.SECONDS.toMillis(GAME_DURATION);
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()));
+    }
+
+    /**
+     * ms → 초 (올림) - 기존 timeLeft 필드용
+     */
+    static int toSeconds(long millis) {
+        return (int) ((millis + 999) / 1000);
     }
 
     GameRoom getRoom() {
         return room;
     }
 
+    /**
+     * 카드의 바뀌지 않는 정보 (점령 상태는 cardStates)
+     */
     private static class Card {
         final String word;
-        int ownerTeam;
+        final int points;
 
-        Card(String word, int ownerTeam) {
+        Card(String word, int points) {
             this.word = word;
-            this.ownerTeam = ownerTeam;
+            this.points = points;
         }
     }
 }
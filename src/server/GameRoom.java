@@ -1,25 +1,40 @@
 package server;
 
+import common.Log;
 import common.Player;
 import common.Protocol;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 방 1개의 상태.
+ * 상태를 바꾸는 메소드는 execute() 로 넣은 방 이벤트 안에서만 호출합니다. (방 이벤트는 한 번에 하나씩 실행)
+ * 로비 목록처럼 다른 스레드에서 읽는 값은 volatile / concurrent map 으로 둡니다.
+ */
 public class GameRoom {
     private static final AtomicInteger roomIdCounter = new AtomicInteger(0);
     private final String roomId;
     private final String roomName;
     private final int maxPlayers;
-    private int currentPlayers;
-    private String state; // waiting, playing
+    private volatile int currentPlayers;
+    private volatile String state; // waiting, playing
     // 방 안에 있는 플레이어 목록 (ID -> Player 객체)
     private final Map<String, Player> players = new ConcurrentHashMap<>();
-    private String roomCreatorId; // 방장 ID
+    // 방 멤버들의 출력 채널 (ID -> ClientHandler). 방 브로드캐스트는 이 목록만 순회 (전역 락 없음)
+    private final Map<String, ClientHandler> members = new ConcurrentHashMap<>();
+    private volatile String roomCreatorId; // 방장 ID
+    private final RoomMailbox mailbox;
 
-    public GameRoom(String roomName, int maxPlayers) {
+    /**
+     * @param workers 방 이벤트를 실행할 공용 워커 풀
+     */
+    public GameRoom(String roomName, int maxPlayers, Executor workers) {
         this.roomId = "R" + roomIdCounter.incrementAndGet();
+        this.mailbox = new RoomMailbox(roomId, workers);
         this.roomName = roomName;
         this.maxPlayers = maxPlayers;
         this.currentPlayers = 0;
@@ -38,12 +53,20 @@ public class GameRoom {
         this.state = "playing";
     }
 
+    /**
+     * 방 이벤트를 대기열에 넣습니다. 같은 방의 이벤트는 넣은 순서대로 하나씩 실행됩니다.
+     */
+    void execute(Runnable event) {
+        mailbox.execute(event);
+    }
+
     // --- 플레이어 관리 로직 ---
 
     /**
      * 플레이어를 방에 추가하고 방장 설정 및 teamNumber 설정
+     * member 는 이 플레이어에게 메시지를 보낼 ClientHandler
      */
-    public boolean addPlayer(Player player, int teamNumber) {
+    public boolean addPlayer(Player player, int teamNumber, ClientHandler member) {
         if (currentPlayers >= maxPlayers) return false;
         if (players.containsKey(player.getPlayerId())) return false;
 
@@ -54,6 +77,7 @@ public class GameRoom {
             roomCreatorId = player.getPlayerId();
         }
         players.put(player.getPlayerId(), player);
+        members.put(player.getPlayerId(), member);
         currentPlayers++;
         return true;
     }
@@ -63,6 +87,7 @@ public class GameRoom {
      */
     public void removePlayer(String playerId) {
         Player removed = players.remove(playerId);
+        members.remove(playerId);
         if (removed != null) {
             currentPlayers--;
 
@@ -138,6 +163,11 @@ public class GameRoom {
     public String getRoomCreatorId() { return roomCreatorId; }
     public Map<String, Player> getPlayers() { return players; }
 
+    /**
+     * 방 멤버들의 ClientHandler 목록 (브로드캐스트용)
+     */
+    Collection<ClientHandler> getMembers() { return members.values(); }
+
 
     /**
      * 방 정보를 프로토콜 문자열 형식으로 반환합니다.
@@ -160,7 +190,7 @@ public class GameRoom {
             player.setReady(false);
         }
 
-        System.out.println("방 [" + roomName + "]의 게임이 종료되고 대기 상태로 돌아왔습니다.");
+        Log.info("방 [" + roomName + "]의 게임이 종료되고 대기 상태로 돌아왔습니다.");
     }
 
 
@@ -1,6 +1,8 @@
 package server;
 
+import common.Log;
 import common.Protocol;
+import common.VirtualThreads;
 
 import java.net.ServerSocket;
 import java.net.Socket;
@@ -14,26 +16,51 @@ import java.util.concurrent.*;
 
 public class GameServer {
     private static final int PORT = 12345;
+    private static final int ACCEPT_BACKLOG = 1024; // 접속이 몰릴 때 대기시킬 연결 수
 
-    // 현재 접속 중인 클라이언트 핸들러 목록
-    private final Set<ClientHandler> clients = Collections.synchronizedSet(new HashSet<>());
+    // 로그인한 클라이언트 인덱스 (playerId -> 핸들러, playerName -> 핸들러)
+    // 전체 순회 없이 O(1) 조회, 락 없는 concurrent map 이라 가상 스레드도 pinning 되지 않음
+    private final ConcurrentHashMap<String, ClientHandler> clientsById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ClientHandler> clientsByName = new ConcurrentHashMap<>();
     // 방 목록 관리
-    private final Map<String, GameRoom> rooms = Collections.synchronizedMap(new HashMap<>());
-
-    // 게임 로직 인스턴스 저장 (Room ID -> GameLogic)
-    private final Map<String, GameLogic> activeGames = new HashMap<>();
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
 
     // 플레이어 ID 생성을 위한 카운터
     private final AtomicInteger playerIdCounter = new AtomicInteger(0);
 
     private final WordPool wordPool = new WordPool();              // 단어 풀
-    private final ScheduledExecutorService scheduler =
-            Executors.newScheduledThreadPool(2);                   // 게임 타이머용
+    // 모든 방의 게임 타이머를 시계 스레드 1개로 (틱은 방 이벤트로 넘김)
+    private final TimingWheel clock = new TimingWheel(Long.getLong("server.clock.tickMillis", 10L));
+    // 방 이벤트를 실행하는 공용 워커 풀 (-Dserver.room.threads, 기본값 CPU 코어 수)
+    private final ExecutorService roomWorkers = Executors.newFixedThreadPool(
+            Integer.getInteger("server.room.threads", Runtime.getRuntime().availableProcessors()),
+            new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "room-worker-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
     private final ConcurrentHashMap<String, GameLogic> games =
             new ConcurrentHashMap<>();
 
+    // 메시지 타입별 처리 통계를 DEBUG 로그로 남기는 간격 (-Dserver.stats.intervalSec, 기본 60, 0 이면 끔)
+    private static final long STATS_INTERVAL_SEC = Long.getLong("server.stats.intervalSec", 60L);
+
+    public GameServer() {
+        if (STATS_INTERVAL_SEC > 0 && Log.isEnabled(Log.Level.DEBUG)) {
+            long period = TimeUnit.SECONDS.toNanos(STATS_INTERVAL_SEC);
+            clock.scheduleAtFixedRate(roomWorkers, ClientHandler.DISPATCHER::logStats,
+                    System.nanoTime() + period, period);
+        }
+    }
+
     public static void main(String[] args) {
-        new GameServer().startServer();
+        // 실행 모드 선택: java server.GameServer [thread|nio|virtual]  (또는 -Dserver.mode=nio)
+        new GameServer().startServer(ServerMode.fromArgs(args));
     }
 
     public GameRoom getRoom(String roomId) {
@@ -41,48 +68,82 @@ public class GameServer {
     }
 
     public ClientHandler getClientById(String playerId) {
-        synchronized (clients) { // synchronizedSet 이라 순회할 땐 동기화 필요
-            for (ClientHandler ch : clients) {
-                if (playerId.equals(ch.getPlayerId())) {
-                    return ch;  // 찾으면 바로 반환
-                }
-            }
-        }
-        return null; // 못 찾으면 null
+        if (playerId == null) return null;
+        return clientsById.get(playerId); // 못 찾으면 null
     }
 
     public boolean isPlayerNameTaken(String name) {
         if (name == null) return false;
+        return clientsByName.containsKey(name);
+    }
 
-        synchronized (clients) {
-            for (ClientHandler ch : clients) {
-                String existing = ch.getPlayerName();
-                if (name.equals(existing)) {
-                    return true;
-                }
-            }
+    /**
+     * 닉네임을 원자적으로 선점합니다. (중복 검사 + 등록을 putIfAbsent 한 번으로 처리)
+     *
+     * @return 선점 성공(또는 이미 본인이 쓰는 닉네임)이면 true, 다른 사람이 쓰고 있으면 false
+     */
+    boolean reservePlayerName(String name, ClientHandler handler) {
+        if (name == null) return false;
+        ClientHandler existing = clientsByName.putIfAbsent(name, handler);
+        return existing == null || existing == handler;
+    }
+
+    /**
+     * 선점했던 닉네임을 반납합니다. (다른 핸들러가 쓰는 닉네임은 건드리지 않음)
+     */
+    void releasePlayerName(String name, ClientHandler handler) {
+        if (name != null) {
+            clientsByName.remove(name, handler);
         }
-        return false;
     }
 
 
 
 
     public void startServer() {
-        try (ServerSocket serverSocket = new ServerSocket(PORT)) {
-            System.out.println("서버 시작됨. Port: " + PORT);
+        startServer(ServerMode.THREAD);
+    }
+
+    /**
+     * 지정한 모드로 서버를 시작합니다.
+     * NIO 이벤트 루프 개수는 -Dserver.nio.threads 로 조절 (기본값: CPU 코어 수)
+     */
+    void startServer(ServerMode mode) {
+        if (mode == ServerMode.NIO) {
+            int loopCount = Integer.getInteger("server.nio.threads", Runtime.getRuntime().availableProcessors());
+            try {
+                new NioServer(this, PORT, loopCount).start();
+            } catch (Exception e) {
+                Log.error(" 서버 오류: " + e.getMessage());
+            }
+            return;
+        }
+
+        // VIRTUAL 모드: 접속마다 가상 스레드 (유휴 접속 수만 개도 작은 서버에서 유지 가능, JDK 21 이상)
+        if (mode == ServerMode.VIRTUAL && !VirtualThreads.isSupported()) {
+            Log.warn("이 JDK 는 가상 스레드를 지원하지 않습니다 (21 이상 필요) → THREAD 모드로 실행합니다.");
+            mode = ServerMode.THREAD;
+        }
+        boolean virtual = (mode == ServerMode.VIRTUAL);
+
+        try (ServerSocket serverSocket = new ServerSocket(PORT, ACCEPT_BACKLOG)) {
+            Log.info("서버 시작됨 (" + mode + "). Port: " + PORT);
 
             while (true) {
                 //
                 Socket clientSocket = serverSocket.accept();
-                System.out.println(" 새 클라이언트 연결 수락: " + clientSocket.getInetAddress());
+                Log.info(" 새 클라이언트 연결 수락: " + clientSocket.getInetAddress());
 
                 // 새로운 스레드에서 클라이언트 처리
-                ClientHandler handler = new ClientHandler(clientSocket, this);
-                new Thread(handler).start();
+                ClientHandler handler = new ClientHandler(clientSocket, this, virtual);
+                if (virtual) {
+                    VirtualThreads.start("client-" + clientSocket.getInetAddress(), handler);
+                } else {
+                    new Thread(handler).start();
+                }
             }
         } catch (Exception e) {
-            System.err.println(" 서버 오류: " + e.getMessage());
+            Log.error(" 서버 오류: " + e.getMessage());
         }
     }
 
@@ -90,17 +151,18 @@ public class GameServer {
      * 새로운 클라이언트를 목록에 추가합니다. (로그인 성공 시)
      */
     public void addClient(ClientHandler handler) {
-        clients.add(handler);
-        System.out.println(handler.getPlayerName() + " (" + handler.getPlayerId() + ") 로그인 완료. 현재 접속자 수: " + clients.size());
+        clientsById.put(handler.getPlayerId(), handler);
+        Log.info(handler.getPlayerName() + " (" + handler.getPlayerId() + ") 로그인 완료. 현재 접속자 수: " + clientsById.size());
     }
 
     /**
      * 연결이 끊어진 클라이언트를 목록에서 제거합니다.
      */
     public void removeClient(ClientHandler handler) {
-        clients.remove(handler);
+        releasePlayerName(handler.getPlayerName(), handler);
         if (handler.getPlayerId() != null) {
-            System.out.println(handler.getPlayerName() + " (" + handler.getPlayerId() + ") 연결 해제. 현재 접속자 수: " + clients.size());
+            clientsById.remove(handler.getPlayerId(), handler);
+            Log.info(handler.getPlayerName() + " (" + handler.getPlayerId() + ") 연결 해제. 현재 접속자 수: " + clientsById.size());
         }
     }
 
@@ -114,12 +176,9 @@ public class GameServer {
         data.put("players", room.getPlayersProtocolString());
         data.put("roomCreatorId", room.getRoomCreatorId());
 
-        for (ClientHandler ch : room.getPlayers().values().stream()
-                .map(p -> getClientById(p.getPlayerId()))
-                .filter(Objects::nonNull)
-                .toList()) {
-
-            ch.sendMessage(Protocol.ROOM_UPDATE, data);
+        EncodedMessage message = EncodedMessage.of(Protocol.ROOM_UPDATE, data);
+        for (ClientHandler ch : room.getMembers()) {
+            ch.send(message);
         }
     }
 
@@ -160,16 +219,16 @@ public class GameServer {
      * 방을 생성하고 목록에 추가합니다.
      */
     public GameRoom createRoom(String name, int maxPlayers) {
-        GameRoom newRoom = new GameRoom(name, maxPlayers);
+        GameRoom newRoom = new GameRoom(name, maxPlayers, roomWorkers);
         rooms.put(newRoom.getRoomId(), newRoom);
-        System.out.println("방 생성됨: " + newRoom.getRoomName() + " (" + newRoom.getRoomId() + ")");
+        Log.info("방 생성됨: " + newRoom.getRoomName() + " (" + newRoom.getRoomId() + ")");
         return newRoom;
     }
 
     // --- GAME START & END 핸들러 ---
 
     /**
-     * 게임을 시작하고 GAME_START 메시지를 브로드캐스트합니다.
+     * 게임을 시작하고 GAME_START 메시지를 브로드캐스트합니다. (방 이벤트 스레드)
      */
     public void startGame(GameRoom room) {
         String roomId = room.getRoomId();
@@ -177,14 +236,14 @@ public class GameServer {
         // 이미 게임 중이면 무시
         if (games.containsKey(roomId)) return;
 
-        // 1) 단어 30개 랜덤 뽑기
-        java.util.List<String> words = wordPool.getRandomWords(30);
-        if (words.size() < 30) {
-            System.out.println("경고: 단어가 30개보다 적습니다. size=" + words.size());
+        // 1) 보드 크기만큼 단어 랜덤 뽑기
+        java.util.List<String> words = wordPool.getRandomWords(GameLogic.BOARD_SIZE);
+        if (words.size() < GameLogic.BOARD_SIZE) {
+            Log.warn("단어가 보드 크기(" + GameLogic.BOARD_SIZE + ")보다 적습니다. size=" + words.size());
         }
 
         // 2) GameLogic 생성
-        GameLogic logic = new GameLogic(room, words, scheduler, this);
+        GameLogic logic = new GameLogic(room, words, clock, this);
         games.put(roomId, logic);
 
         // 3) 방 상태 playing 으로
@@ -193,98 +252,36 @@ public class GameServer {
         // 4) ROOM_UPDATE 로 상태 갱신 (로비/방 UI 표현용)
         broadcastRoomUpdate(room);
 
-        // 5) GAME_START 브로드캐스트 (초기 보드 + 제한시간)
+        // 5) 타이머 시작 (방 이벤트 안이라 첫 방송은 GAME_START 뒤에 나감)
+        logic.start();
+
+        // 6) GAME_START 브로드캐스트 (초기 보드 + 제한시간 + 종료까지 남은 ms)
+        //    클라이언트는 받은 시각 + timeLeftMs 를 종료 시각으로 잡고 타이머 바를 직접 움직임
         java.util.Map<String, String> data = new java.util.HashMap<>();
         data.put("roomId", roomId);
         data.put("board", logic.toBoardString());                    // "사과,1/바나나,2/..."
         data.put("timeLimit", String.valueOf(GameLogic.GAME_DURATION));
+        data.put("timeLeftMs", String.valueOf(logic.getRemainingMillis()));
 
         broadcastToRoom(room, common.Protocol.GAME_START, data);
-
-        // 6) 타이머 시작
-        logic.start();
     }
 
 
-    void broadcastToRoom(GameRoom room, String type, java.util.Map<String, String> data) {
-        synchronized (clients) {
-            for (ClientHandler ch : clients) {
-                GameRoom cr = ch.getCurrentRoom();
-                if (cr != null && cr.getRoomId().equals(room.getRoomId())) {
-                    ch.sendMessage(type, data);
-                }
-            }
-        }
-    }
-
-    /**
-     * GAME_END 메시지를 브로드캐스트합니다.
-     */
-    public void broadcastGameEnd(GameRoom room, int score1, int score2) {
-        Map<String, String> data = new HashMap<>();
-        data.put("winner", score1 > score2 ? "1" : (score2 > score1 ? "2" : "0"));
-        data.put("team1Score", String.valueOf(score1));
-        data.put("team2Score", String.valueOf(score2));
-        // TODO: mvp:P001:15 추가
-
-        broadcast(room, Protocol.GAME_END, data);
-        activeGames.remove(room.getRoomId()); // 게임 종료 후 로직 제거
-    }
-
-    // --- 실시간 업데이트 브로드캐스트 ---
-
-    /**
-     * WORD_CAPTURE 메시지를 브로드캐스트합니다.
-     */
-    public void broadcastWordCapture(GameRoom room, int wordIndex, int team, String capturedBy, int points) {
-        Map<String, String> data = new HashMap<>();
-        data.put("wordIndex", String.valueOf(wordIndex));
-        data.put("team", String.valueOf(team));
-        data.put("capturedBy", capturedBy);
-        data.put("points", String.valueOf(points));
-
-        broadcast(room, Protocol.WORD_CAPTURE, data);
-    }
-
     /**
-     * GAME_STATE 메시지를 브로드캐스트합니다.
+     * 방 멤버들에게만 메시지를 전송합니다. (GameRoom 이 들고 있는 멤버 목록만 순회, 전역 락 없음)
+     * 메시지는 한 번만 직렬화해서 모든 멤버에게 같은 객체를 넘깁니다.
      */
-    public void broadcastGameState(GameRoom room, int time, int score1, int score2, String wordStates) {
-        Map<String, String> data = new HashMap<>();
-        data.put("time", String.valueOf(time));
-        data.put("team1Score", String.valueOf(score1));
-        data.put("team2Score", String.valueOf(score2));
-        data.put("wordStates", wordStates);
-
-        broadcast(room, Protocol.GAME_STATE, data);
-    }
-
-    /**
-     * 특정 방의 모든 멤버에게 메시지를 전송합니다.
-     */
-    public void broadcast(GameRoom room, String type, Map<String, String> data) {
-
-        // Player 객체의 ID를 가져와서, GameServer의 전체 클라이언트 목록(clients)에서 해당 ClientHandler를 찾습니다.
-        for (common.Player playerInRoom : room.getPlayers().values()) {
-
-            String targetPlayerId = playerInRoom.getPlayerId();
-
-            // GameServer에 연결된 모든 ClientHandler를 순회합니다.
-            for (ClientHandler clientHandler : clients) {
-
-                // Player ID가 일치하는 ClientHandler를 찾습니다.
-                if (clientHandler.getPlayerId().equals(targetPlayerId)) {
-
-                    clientHandler.sendMessage(type, data);
-                    break; // 찾았으니 다음 플레이어로 이동
-                }
-            }
+    void broadcastToRoom(GameRoom room, String type, java.util.Map<String, String> data) {
+        EncodedMessage message = EncodedMessage.of(type, data);
+        for (ClientHandler ch : room.getMembers()) {
+            ch.send(message);
         }
     }
+
     // --- WORD_INPUT 핸들러 ---
 
     /**
-     * ClientHandler가 WORD_INPUT을 받으면 호출하는 메소드
+     * ClientHandler가 WORD_INPUT을 받으면 호출하는 메소드 (방 이벤트 스레드)
      */
     // GameServer 안에 추가
     public void handleWordInput(String roomId, String playerId, String wordContent) {
@@ -298,15 +295,19 @@ public class GameServer {
         if (player == null) return;
 
         int team = player.getTeamNumber();
-        boolean changed = logic.applyWord(team, wordContent);
-        if (!changed) return; // 보드 변화 없으면 굳이 브로드캐스트 안 함
+        int changedIndex = logic.applyWord(team, wordContent);
+        if (changedIndex < 0) return; // 보드 변화 없으면 굳이 브로드캐스트 안 함
 
+        // 전체 보드 대신 바뀐 카드만 보냄 (changes: "인덱스,팀,순번")
         java.util.Map<String, String> data = new java.util.HashMap<>();
         data.put("roomId", roomId);
-        data.put("board", logic.toBoardString());
-        data.put("score1", String.valueOf(logic.getScore1()));
-        data.put("score2", String.valueOf(logic.getScore2()));
-        data.put("timeLeft", String.valueOf(logic.getRemainingSeconds()));
+        data.put("changes", logic.toChangeString(changedIndex));
+        int[] scores = logic.getScores(); // 두 팀 점수를 같은 시점 값으로
+        data.put("score1", String.valueOf(scores[0]));
+        data.put("score2", String.valueOf(scores[1]));
+        long remainingMillis = logic.getRemainingMillis();
+        data.put("timeLeft", String.valueOf(GameLogic.toSeconds(remainingMillis)));
+        data.put("timeLeftMs", String.valueOf(remainingMillis)); // 타이머 바를 초 단위보다 부드럽게
 
         broadcastToRoom(room, common.Protocol.GAME_UPDATE, data);
     }
@@ -317,10 +318,18 @@ public class GameServer {
 
         java.util.Map<String, String> data = new java.util.HashMap<>();
         data.put("roomId", room.getRoomId());
-        data.put("board", logic.toBoardString());
-        data.put("score1", String.valueOf(logic.getScore1()));
-        data.put("score2", String.valueOf(logic.getScore2()));
-        data.put("timeLeft", String.valueOf(logic.getRemainingSeconds()));
+        if (logic.isSnapshotTick()) {
+            // 주기적으로 전체 점령 상태를 보내 누락된 변경을 복구하게 함
+            // (순번을 먼저 읽어야 스냅샷이 순번보다 오래된 상태를 담지 않음)
+            data.put("seq", String.valueOf(logic.getBoardSeq()));
+            data.put("owners", logic.toOwnersString());
+        }
+        int[] scores = logic.getScores(); // 두 팀 점수를 같은 시점 값으로
+        data.put("score1", String.valueOf(scores[0]));
+        data.put("score2", String.valueOf(scores[1]));
+        long remainingMillis = logic.getRemainingMillis();
+        data.put("timeLeft", String.valueOf(GameLogic.toSeconds(remainingMillis)));
+        data.put("timeLeftMs", String.valueOf(remainingMillis)); // 타이머 바를 초 단위보다 부드럽게
 
         broadcastToRoom(room, common.Protocol.GAME_UPDATE, data);
     }
@@ -331,8 +340,9 @@ public class GameServer {
 
         games.remove(roomId);
 
-        int score1 = logic.getScore1();
-        int score2 = logic.getScore2();
+        int[] scores = logic.getScores();
+        int score1 = scores[0];
+        int score2 = scores[1];
         String winner;
         if (score1 > score2) winner = "1";
         else if (score2 > score1) winner = "2";
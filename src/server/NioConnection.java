@@ -0,0 +1,196 @@
+package server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import common.BinaryProtocol;
+import common.Frame;
+import common.FrameDecoder;
+import common.Log;
+import common.TextFrameDecoder;
+
+/**
+ * NIO 모드의 연결 1개.
+ * - 읽기: 받은 바이트를 버퍼에 쌓고 FrameDecoder 로 메시지를 하나씩 잘라 ClientHandler 로 전달
+ * - 쓰기: 아무 스레드에서나 send() 가능 (OutboundQueue 에 넣기만 함),
+ *         실제 write 는 이벤트 루프 스레드에서 묶음 단위 gathering write 로 수행
+ */
+class NioConnection implements Transport {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_BUFFER_SIZE = FrameDecoder.MAX_FRAME_SIZE + 16;
+    private static final int MAX_BATCH = 64;
+    private static final ByteBuffer[] EMPTY = new ByteBuffer[0];
+
+    private final NioEventLoop loop;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final String remoteAddress;
+
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private final OutboundQueue queue = new OutboundQueue();
+    // 대기열에서 꺼냈지만 아직 다 못 쓴 버퍼 + 꺼내 올 때 쓰는 임시 목록 (루프 스레드에서만 접근)
+    private final ArrayDeque<ByteBuffer> inFlight = new ArrayDeque<>();
+    private final List<OutboundQueue.Entry> batch = new ArrayList<>(MAX_BATCH);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private ClientHandler handler;
+    private FrameDecoder decoder = new TextFrameDecoder(); // 루프 스레드에서만 접근
+    private volatile boolean binary = false;
+
+    NioConnection(NioEventLoop loop, SocketChannel channel, SelectionKey key) {
+        this.loop = loop;
+        this.channel = channel;
+        this.key = key;
+        String address;
+        try {
+            address = String.valueOf(channel.getRemoteAddress());
+        } catch (IOException e) {
+            address = "알 수 없음";
+        }
+        this.remoteAddress = address;
+    }
+
+    /**
+     * 채널이 셀렉터에 등록된 직후 호출 (루프 스레드)
+     */
+    void open(GameServer server) {
+        this.handler = new ClientHandler(server, this);
+    }
+
+    // ================== 읽기 ==================
+
+    void onReadable() {
+        try {
+            int n = channel.read(readBuffer);
+            if (n < 0) {
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            Frame frame;
+            // read 1번에 들어온 메시지를 모두 처리.
+            // 메시지마다 decoder 를 새로 읽음 → LOGIN_REQ 처리 중 코덱이 바뀌면 다음 메시지부터 적용
+            while (!closed.get() && (frame = decoder.next(readBuffer)) != null) {
+                handler.onFrame(frame);
+            }
+            readBuffer.compact();
+
+            // 버퍼가 꽉 찼는데 메시지가 안 끝났으면 버퍼 늘리기 (최대 크기 초과는 디코더가 예외로 끊음)
+            if (!readBuffer.hasRemaining()) {
+                ByteBuffer bigger = ByteBuffer.allocate(Math.min(readBuffer.capacity() * 2, MAX_BUFFER_SIZE));
+                readBuffer.flip();
+                bigger.put(readBuffer);
+                readBuffer = bigger;
+            }
+        } catch (IOException e) {
+            if (!closed.get()) {
+                Log.warn("수신 오류, 연결 종료: " + remoteAddress + " (" + e.getMessage() + ")");
+            }
+            close();
+        } catch (RuntimeException e) {
+            // 예상 못 한 오류도 이 연결만 끊음 (이벤트 루프로 새면 연결이 남아 같은 바이트를 계속 다시 읽음)
+            Log.error("수신 처리 오류, 연결 종료: " + remoteAddress + " (" + e + ")");
+            close();
+        }
+    }
+
+    // ================== 쓰기 ==================
+
+    @Override
+    public void send(EncodedMessage message) {
+        if (closed.get()) return;
+
+        if (!queue.offer(message, message.getBytes(binary))) {
+            Log.warn("송신 대기열이 " + OutboundQueue.STALL_MILLIS + "ms 넘게 가득 차 연결을 끊습니다: " + remoteAddress);
+            close();
+            return;
+        }
+
+        // 루프 스레드에서 보낸 것도 바로 쓰지 않고 작업으로 미룸
+        // → 한 번의 read 로 처리한 메시지들의 응답이 gathering write 1번으로 나감
+        if (flushScheduled.compareAndSet(false, true)) {
+            loop.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Override
+    public void useBinaryCodec() {
+        decoder = new BinaryProtocol.Decoder();
+        binary = true;
+    }
+
+    void onWritable() {
+        flush();
+    }
+
+    /**
+     * 대기열을 가능한 만큼 비웁니다. 소켓 버퍼가 차면 OP_WRITE 를 켜고 다음 기회에 이어서 씁니다.
+     */
+    private void flush() {
+        if (closed.get()) return;
+        try {
+            while (true) {
+                if (inFlight.isEmpty()) {
+                    if (queue.drainTo(batch, MAX_BATCH) == 0) break;
+                    for (OutboundQueue.Entry entry : batch) {
+                        // 바이트 배열은 브로드캐스트 대상끼리 공유, 위치(position)만 연결마다 따로
+                        inFlight.add(ByteBuffer.wrap(entry.bytes));
+                    }
+                    batch.clear();
+                }
+
+                channel.write(inFlight.toArray(EMPTY)); // 묶음을 시스템 콜 1번으로
+                while (!inFlight.isEmpty() && !inFlight.peekFirst().hasRemaining()) {
+                    inFlight.pollFirst();
+                }
+                if (!inFlight.isEmpty()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    // ================== 종료 ==================
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+
+        if (!loop.inEventLoop()) {
+            loop.execute(this::closeInLoop);
+        } else {
+            closeInLoop();
+        }
+    }
+
+    private void closeInLoop() {
+        key.cancel();
+        try { channel.close(); } catch (IOException ignored) {}
+        queue.close();
+        inFlight.clear();
+        if (handler != null) {
+            handler.onDisconnect();
+        }
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+}
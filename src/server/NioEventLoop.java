@@ -0,0 +1,109 @@
+package server;
+
+import common.Log;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 셀렉터 하나를 소유하는 이벤트 루프 스레드.
+ * 채널 등록, 쓰기 요청 등 다른 스레드에서 오는 작업은 execute() 로 넘겨받아
+ * 루프 스레드에서만 셀렉터/채널 상태를 건드립니다.
+ */
+class NioEventLoop implements Runnable {
+
+    private final GameServer server;
+    private final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    NioEventLoop(GameServer server, String name) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * 루프 스레드에서 실행할 작업을 등록합니다.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (!inEventLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 새로 수락한 채널을 이 루프에 붙입니다.
+     */
+    void register(SocketChannel channel) {
+        execute(() -> {
+            try {
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                NioConnection connection = new NioConnection(this, channel, key);
+                key.attach(connection);
+                connection.open(server);
+            } catch (ClosedChannelException e) {
+                // 등록 전에 끊긴 연결은 무시
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            try {
+                // 루프 안에서 등록한 작업(응답 flush 등)이 남아 있으면 기다리지 않고 바로 처리
+                if (tasks.isEmpty()) {
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+                runTasks();
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+
+                    NioConnection connection = (NioConnection) key.attachment();
+                    if (connection == null) continue;
+
+                    if (key.isValid() && key.isReadable()) {
+                        connection.onReadable();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.onWritable();
+                    }
+                }
+            } catch (Exception e) {
+                Log.error(thread.getName() + " 이벤트 루프 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                Log.error(thread.getName() + " 작업 실행 오류: " + e.getMessage());
+            }
+        }
+    }
+}
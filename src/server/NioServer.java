@@ -0,0 +1,73 @@
+package server;
+
+import common.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/**
+ * Selector 기반 서버 (ServerMode.NIO)
+ * - 호출한 스레드가 accept 전용 셀렉터를 돌림
+ * - 수락한 채널은 이벤트 루프들에 라운드로빈으로 배정
+ * - 각 이벤트 루프가 자기 채널들의 읽기/쓰기를 논블로킹으로 처리
+ */
+class NioServer {
+
+    private final GameServer server;
+    private final int port;
+    private final NioEventLoop[] loops;
+    private int nextLoop = 0;
+
+    NioServer(GameServer server, int port, int loopCount) {
+        this.server = server;
+        this.port = port;
+        this.loops = new NioEventLoop[Math.max(1, loopCount)];
+    }
+
+    /**
+     * 이벤트 루프를 띄운 뒤 accept 루프를 돕니다. (반환하지 않음)
+     */
+    void start() throws IOException {
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new NioEventLoop(server, "nio-loop-" + i);
+            loops[i].start();
+        }
+
+        try (Selector acceptSelector = Selector.open();
+             ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+
+            serverChannel.bind(new InetSocketAddress(port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+
+            Log.info("서버 시작됨 (NIO, 이벤트 루프 " + loops.length + "개). Port: " + port);
+
+            while (true) {
+                acceptSelector.select();
+
+                Iterator<SelectionKey> it = acceptSelector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+
+                    if (!key.isValid() || !key.isAcceptable()) continue;
+
+                    SocketChannel channel;
+                    while ((channel = serverChannel.accept()) != null) {
+                        Log.info(" 새 클라이언트 연결 수락: " + channel.getRemoteAddress());
+                        channel.configureBlocking(false);
+                        channel.socket().setTcpNoDelay(true);
+
+                        loops[nextLoop].register(channel);
+                        nextLoop = (nextLoop + 1) % loops.length;
+                    }
+                }
+            }
+        }
+    }
+}
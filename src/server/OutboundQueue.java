@@ -0,0 +1,167 @@
+package server;
+
+import common.Protocol;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연결 1개의 송신 대기열 (크기 제한 있음).
+ *
+ * - 보내는 쪽(틱 스레드, 다른 플레이어 핸들러 등)은 넣기만 하고 바로 돌아감 → 느린 클라이언트가 방 전체를 막지 않음
+ * - 아직 안 보낸 GAME_UPDATE 는 새 GAME_UPDATE 로 교체
+ *     점수/시간만 있는 업데이트 → 어떤 새 업데이트로든 교체
+ *     보드 변경(changes)이 든 업데이트 → 새 스냅샷(owners)으로만 교체 (변경분을 잃지 않도록)
+ * - 가득 찬 상태에서는 점수/시간만 있는 GAME_UPDATE 만 버림 (다음 업데이트가 최신 값을 다시 담아 옴)
+ *   그 밖의 메시지(GAME_END, ROOM_UPDATE, 보드 변경 등)는 잃으면 복구할 길이 없으므로 CAPACITY 를 넘겨서라도 넣음
+ * - 가득 찬 상태가 STALL_MILLIS 이상 이어지거나 HARD_CAPACITY 에 닿으면 offer 가 false → 연결 종료
+ */
+final class OutboundQueue {
+
+    static final int CAPACITY = Integer.getInteger("server.outbound.capacity", 512);
+    static final long STALL_MILLIS = Long.getLong("server.outbound.stallMillis", 5000L);
+    // 버릴 수 없는 메시지가 CAPACITY 를 넘겨 쌓일 수 있는 최대치 (메모리 상한)
+    static final int HARD_CAPACITY = CAPACITY * 2;
+
+    /**
+     * 대기 중인 메시지 + 넣을 때의 코덱으로 만든 바이트 (LOGIN_RES 는 코덱 전환 전이라 텍스트로 나가야 함)
+     */
+    static final class Entry {
+        final EncodedMessage message;
+        final byte[] bytes;
+
+        Entry(EncodedMessage message, byte[] bytes) {
+            this.message = message;
+            this.bytes = bytes;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private long fullSince; // 가득 찬 상태가 시작된 시각 (nanoTime), 0 이면 여유 있음
+    private boolean closed;
+
+    /**
+     * 메시지를 넣습니다. 기다리지 않습니다.
+     *
+     * @return 가득 찬 상태가 STALL_MILLIS 넘게 이어졌거나 HARD_CAPACITY 에 닿았으면 false (호출한 쪽에서 연결을 끊어야 함)
+     */
+    boolean offer(EncodedMessage message, byte[] bytes) {
+        lock.lock();
+        try {
+            if (closed) return true;
+
+            removeSuperseded(message);
+
+            if (entries.size() < CAPACITY) {
+                fullSince = 0; // 다시 여유가 생김 → 예전 시각으로 너무 일찍 끊지 않도록
+            } else {
+                long now = System.nanoTime();
+                if (fullSince == 0) {
+                    fullSince = now;
+                }
+                if (now - fullSince >= TimeUnit.MILLISECONDS.toNanos(STALL_MILLIS)
+                        || entries.size() >= HARD_CAPACITY) {
+                    return false;
+                }
+                if (message.isTickOnlyUpdate()) {
+                    return true; // 최신 값만 의미 있는 업데이트 → 버려도 다음 업데이트로 복구됨
+                }
+            }
+
+            entries.addLast(new Entry(message, bytes));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * newer 때문에 필요 없어진 GAME_UPDATE 를 대기열에서 뺍니다.
+     */
+    private void removeSuperseded(EncodedMessage newer) {
+        if (!Protocol.GAME_UPDATE.equals(newer.getType())) return;
+
+        boolean snapshot = newer.isBoardSnapshot();
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            EncodedMessage older = it.next().message;
+            if (older.isTickOnlyUpdate() || (snapshot && Protocol.GAME_UPDATE.equals(older.getType()))) {
+                it.remove();
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return entries.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 최대 max 개 꺼냅니다. 기다리지 않습니다. (NIO 이벤트 루프 / 스레드 모드 송신용)
+     */
+    int drainTo(List<Entry> batch, int max) {
+        lock.lock();
+        try {
+            return drainLocked(batch, max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메시지가 1개 이상 생길 때까지 기다렸다가 최대 max 개 꺼냅니다. (가상 스레드 모드의 writer 용)
+     *
+     * @return 닫혔으면 false
+     */
+    boolean awaitAndDrainTo(List<Entry> batch, int max) throws InterruptedException {
+        lock.lock();
+        try {
+            while (entries.isEmpty()) {
+                if (closed) return false;
+                notEmpty.await();
+            }
+            drainLocked(batch, max);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int drainLocked(List<Entry> batch, int max) {
+        int count = 0;
+        Entry entry;
+        while (count < max && (entry = entries.pollFirst()) != null) {
+            batch.add(entry);
+            count++;
+        }
+        if (count > 0) {
+            fullSince = 0; // 클라이언트가 받아 가고 있음
+        }
+        return count;
+    }
+
+    /**
+     * 대기열을 닫고 남은 메시지를 버립니다. 기다리던 writer 를 깨웁니다.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            entries.clear();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
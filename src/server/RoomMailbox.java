@@ -0,0 +1,66 @@
+package server;
+
+import common.Log;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방 1개의 이벤트 대기열.
+ * 입장/퇴장/준비/단어 입력/틱 등 방 상태를 바꾸는 일은 모두 이 대기열을 거쳐 한 번에 하나씩 실행됩니다.
+ * → 방 안에서는 락이 필요 없고, 여러 방은 공용 워커 풀(코어 수만큼)에서 동시에 돌아갑니다.
+ *
+ * 워커 스레드 하나가 한 방을 계속 붙잡지 않도록 한 번에 MAX_BATCH 개까지만 처리하고 풀에 다시 넣습니다.
+ */
+final class RoomMailbox implements Executor {
+
+    private static final int MAX_BATCH = 64;
+
+    private final String name;
+    private final Executor workers;
+    private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    RoomMailbox(String name, Executor workers) {
+        this.name = name;
+        this.workers = workers;
+    }
+
+    /**
+     * 이벤트를 넣습니다. 아무 스레드에서나 호출 가능하고 기다리지 않습니다.
+     */
+    @Override
+    public void execute(Runnable event) {
+        events.add(event);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            workers.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable event;
+            int count = 0;
+            while (count < MAX_BATCH && (event = events.poll()) != null) {
+                try {
+                    event.run();
+                } catch (Exception e) {
+                    Log.error("방 [" + name + "] 이벤트 처리 오류: " + e);
+                }
+                count++;
+            }
+        } finally {
+            scheduled.set(false);
+            // 처리하는 사이에 새로 들어온 이벤트가 있으면 다시 예약
+            if (!events.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
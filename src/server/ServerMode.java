@@ -0,0 +1,30 @@
+package server;
+
+import common.Log;
+
+/**
+ * 서버 실행 모드
+ * - THREAD : 접속마다 스레드 1개 (기존 방식)
+ * - NIO    : Selector 기반 이벤트 루프 몇 개로 모든 접속 처리
+ * - VIRTUAL: 접속마다 가상 스레드 1개 (코드는 THREAD 와 같고 스레드 비용만 작음, JDK 21 이상)
+ */
+enum ServerMode {
+    THREAD,
+    NIO,
+    VIRTUAL;
+
+    /**
+     * 실행 인자 첫 번째 값 또는 -Dserver.mode 로 모드를 고릅니다. (기본값 THREAD)
+     */
+    static ServerMode fromArgs(String[] args) {
+        String value = (args != null && args.length > 0) ? args[0] : System.getProperty("server.mode");
+        if (value == null || value.isBlank()) return THREAD;
+
+        try {
+            return ServerMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Log.warn("알 수 없는 서버 모드: " + value + " → THREAD 로 실행합니다.");
+            return THREAD;
+        }
+    }
+}
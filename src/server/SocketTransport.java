@@ -0,0 +1,133 @@
+package server;
+
+import common.BinaryProtocol;
+import common.Frame;
+import common.FrameReader;
+import common.Log;
+import common.TextFrameDecoder;
+import common.VirtualThreads;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 스레드/가상 스레드 모드용 Transport: 블로킹 소켓 스트림으로 송수신합니다.
+ * 송신은 OutboundQueue 에 넣고 묶음 단위로 flush 합니다. 꺼내서 쓰는 쪽은 모드마다 다름:
+ * - 가상 스레드 모드: 연결마다 writer 가상 스레드 (비용이 작으므로 보내는 쪽은 절대 막히지 않음)
+ * - 스레드 모드: 별도 스레드 없이 보낸 스레드가 writeLock 을 tryLock 으로 잡고 직접 비움
+ *   (이미 쓰는 스레드가 있으면 넣기만 하고 돌아감 → 그 스레드가 이어서 비움). 접속당 OS 스레드 1개 유지
+ */
+class SocketTransport implements Transport {
+    private static final int MAX_BATCH = 64;
+
+    private final Socket socket;
+    private final FrameReader reader;
+    private final OutputStream out;
+    private final OutboundQueue queue = new OutboundQueue();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile boolean binary = false;
+    // 스레드 모드: 지금 소켓에 쓰고 있는 스레드 1개만 잡음. batch 는 이 락을 잡은 스레드만 사용
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<OutboundQueue.Entry> batch = new ArrayList<>(MAX_BATCH);
+    private final boolean ownWriter;
+
+    SocketTransport(Socket socket, boolean virtualThread) throws IOException {
+        this.socket = socket;
+        this.reader = new FrameReader(socket.getInputStream(), new TextFrameDecoder());
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+
+        this.ownWriter = virtualThread;
+        if (ownWriter) {
+            VirtualThreads.start("writer-" + socket.getInetAddress(), this::writeLoop);
+        }
+    }
+
+    /**
+     * 읽을 수 있는 메시지를 모두 handler 에 넘깁니다. 연결이 끊기면 false (ClientHandler 스레드에서만 호출)
+     */
+    boolean readBatch(Consumer<Frame> handler) throws IOException {
+        return reader.readBatch(handler);
+    }
+
+    @Override
+    public void send(EncodedMessage message) {
+        if (closed.get()) return;
+        if (!queue.offer(message, message.getBytes(binary))) {
+            Log.warn("송신 대기열이 " + OutboundQueue.STALL_MILLIS + "ms 넘게 가득 차 연결을 끊습니다: " + getRemoteAddress());
+            close();
+            return;
+        }
+        if (!ownWriter) {
+            flushFromCaller();
+        }
+    }
+
+    /**
+     * 스레드 모드: 보낸 스레드가 대기열을 직접 비웁니다.
+     * 락을 놓은 뒤 대기열을 다시 보는 이유: 락을 잡고 있는 동안 넣고 돌아간 메시지가 남지 않도록
+     */
+    private void flushFromCaller() {
+        while (!queue.isEmpty() && writeLock.tryLock()) {
+            try {
+                while (queue.drainTo(batch, MAX_BATCH) > 0) {
+                    writeBatch();
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            } finally {
+                batch.clear();
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 가상 스레드 모드의 writer: 메시지가 생길 때까지 기다렸다가 묶음으로 씀
+     */
+    private void writeLoop() {
+        try {
+            while (queue.awaitAndDrainTo(batch, MAX_BATCH)) {
+                writeBatch();
+            }
+        } catch (IOException | InterruptedException e) {
+            close();
+        }
+    }
+
+    /**
+     * 쌓인 메시지를 한 번에 쓰고 flush 는 묶음마다 1번
+     */
+    private void writeBatch() throws IOException {
+        for (OutboundQueue.Entry entry : batch) {
+            out.write(entry.bytes);
+        }
+        out.flush();
+        batch.clear();
+    }
+
+    @Override
+    public void useBinaryCodec() {
+        reader.setDecoder(new BinaryProtocol.Decoder());
+        binary = true;
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        queue.close();
+        try { socket.close(); } catch (IOException ignored) {}
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return String.valueOf(socket.getInetAddress());
+    }
+}
@@ -0,0 +1,206 @@
+package server;
+
+import common.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 모든 방의 게임 타이머를 스레드 하나로 돌리는 계층형 타이밍 휠.
+ *
+ * - 시계 스레드는 TICK 간격(-Dserver.clock.tickMillis, 기본 10ms)마다 깨어나 만료된 칸만 확인합니다.
+ *   → 방이 수천 개여도 스케줄러 스레드 풀에 작업이 줄 서지 않음
+ * - 만료된 작업은 시계 스레드에서 실행하지 않고 각 방의 executor(RoomMailbox) 에 넘깁니다.
+ *   같은 칸에서 만료된 방들은 한 번에 넘겨짐
+ * - 반복 작업은 "이전 마감 + 주기" 의 절대 시각으로 다시 걸어서, 늦게 실행돼도 오차가 쌓이지 않음
+ *
+ * 칸 구성: 0단 256칸(1틱씩) / 1단 64칸(256틱씩) / 2단 64칸(16384틱씩).
+ * 위 단의 칸 차례가 오면 그 안의 작업을 아래 단으로 다시 나눠 넣습니다.
+ */
+final class TimingWheel {
+
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;  // 256
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;    // 64
+    private static final int LEVEL1_SHIFT = LEVEL0_BITS;                // 8
+    private static final int LEVEL2_SHIFT = LEVEL0_BITS + LEVEL_BITS;   // 14
+    private static final long LEVEL2_SPAN = 1L << LEVEL2_SHIFT;
+    private static final long MAX_SPAN = 1L << (LEVEL2_SHIFT + LEVEL_BITS);
+
+    /**
+     * 예약된 작업 1개. cancel() 은 아무 스레드에서나 호출 가능
+     */
+    static final class Timeout {
+        private final Executor executor;
+        private final Runnable task;
+        private final long periodNanos; // 0 이면 1회
+        private long deadline;          // 절대 시각 (System.nanoTime 기준)
+        private long expireTick;        // 시계 스레드에서만 사용
+        private volatile boolean cancelled;
+
+        private Timeout(Executor executor, Runnable task, long deadline, long periodNanos) {
+            this.executor = executor;
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final List<List<Timeout>> level0 = newLevel(LEVEL0_SIZE);
+    private final List<List<Timeout>> level1 = newLevel(LEVEL_SIZE);
+    private final List<List<Timeout>> level2 = newLevel(LEVEL_SIZE);
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>(); // 다른 스레드가 넣은 새 작업
+    private long currentTick;
+
+    TimingWheel(long tickMillis) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        this.startNanos = System.nanoTime();
+
+        Thread clock = new Thread(this::run, "game-clock");
+        clock.setDaemon(true);
+        clock.start();
+    }
+
+    private static List<List<Timeout>> newLevel(int size) {
+        List<List<Timeout>> level = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            level.add(new ArrayList<>());
+        }
+        return level;
+    }
+
+    /**
+     * deadlineNanos (System.nanoTime 기준 절대 시각) 에 executor 로 task 를 넘깁니다.
+     */
+    Timeout schedule(Executor executor, Runnable task, long deadlineNanos) {
+        Timeout timeout = new Timeout(executor, task, deadlineNanos, 0);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * firstDeadlineNanos 부터 periodNanos 간격의 절대 시각마다 executor 로 task 를 넘깁니다.
+     */
+    Timeout scheduleAtFixedRate(Executor executor, Runnable task, long firstDeadlineNanos, long periodNanos) {
+        if (periodNanos <= 0) throw new IllegalArgumentException("period must be positive");
+        Timeout timeout = new Timeout(executor, task, firstDeadlineNanos, periodNanos);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    // ================== 시계 스레드 ==================
+
+    private void run() {
+        while (true) {
+            // 다음 틱의 절대 시각까지 대기 (늦게 깨어나도 틱 번호는 시각 기준이라 밀리지 않음)
+            long next = startNanos + (currentTick + 1) * tickNanos;
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // 늦게 깨어났으면 밀린 틱을 차례로 처리
+            long target = (System.nanoTime() - startNanos) / tickNanos;
+            while (currentTick < target) {
+                currentTick++;
+                try {
+                    advance();
+                } catch (Exception e) {
+                    Log.error("타이머 처리 오류: " + e);
+                }
+            }
+        }
+    }
+
+    private void advance() {
+        long tick = currentTick;
+
+        Timeout added;
+        while ((added = pending.poll()) != null) {
+            if (!added.cancelled) {
+                added.expireTick = tickOf(added.deadline);
+                insert(added);
+            }
+        }
+
+        // 위 단 칸 차례가 오면 아래 단으로 다시 나누기 (2단 → 1단 → 0단 순서)
+        if ((tick & (LEVEL0_SIZE - 1)) == 0) {
+            if (((tick >>> LEVEL1_SHIFT) & (LEVEL_SIZE - 1)) == 0) {
+                cascade(level2.get((int) ((tick >>> LEVEL2_SHIFT) & (LEVEL_SIZE - 1))));
+            }
+            cascade(level1.get((int) ((tick >>> LEVEL1_SHIFT) & (LEVEL_SIZE - 1))));
+        }
+
+        List<Timeout> bucket = level0.get((int) (tick & (LEVEL0_SIZE - 1)));
+        if (bucket.isEmpty()) return;
+
+        List<Timeout> due = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout timeout : due) {
+            if (timeout.cancelled) continue;
+            if (timeout.expireTick > tick) {
+                insert(timeout); // 아직 아님 (먼 미래 작업이 한 바퀴 돌아온 경우)
+                continue;
+            }
+
+            timeout.executor.execute(timeout.task);
+
+            if (timeout.periodNanos > 0) {
+                timeout.deadline += timeout.periodNanos; // 이전 마감 기준 → 오차 누적 없음
+                // 지금 칸은 이미 비웠으므로 밀린 반복이라도 다음 틱 이후로
+                timeout.expireTick = Math.max(tickOf(timeout.deadline), tick + 1);
+                insert(timeout);
+            }
+        }
+    }
+
+    private void cascade(List<Timeout> bucket) {
+        if (bucket.isEmpty()) return;
+        List<Timeout> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout timeout : moving) {
+            if (!timeout.cancelled) {
+                insert(timeout);
+            }
+        }
+    }
+
+    /**
+     * 마감 시각이 속한 틱 번호 (올림: 마감보다 일찍 실행되지 않음)
+     */
+    private long tickOf(long deadline) {
+        long elapsed = deadline - startNanos;
+        if (elapsed <= 0) return 0;
+        return (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private void insert(Timeout timeout) {
+        long expire = Math.max(timeout.expireTick, currentTick); // 이미 지난 작업은 이번 틱에 처리
+        long delta = expire - currentTick;
+
+        if (delta < LEVEL0_SIZE) {
+            level0.get((int) (expire & (LEVEL0_SIZE - 1))).add(timeout);
+        } else if (delta < LEVEL2_SPAN) {
+            level1.get((int) ((expire >>> LEVEL1_SHIFT) & (LEVEL_SIZE - 1))).add(timeout);
+        } else {
+            long slotTick = (delta < MAX_SPAN) ? expire : currentTick + MAX_SPAN - LEVEL2_SPAN;
+            level2.get((int) ((slotTick >>> LEVEL2_SHIFT) & (LEVEL_SIZE - 1))).add(timeout);
+        }
+    }
+}
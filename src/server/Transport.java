@@ -0,0 +1,28 @@
+package server;
+
+/**
+ * ClientHandler 가 메시지를 주고받는 연결.
+ * 스레드 모드에서는 소켓 스트림, NIO 모드에서는 셀렉터 기반 채널이 구현합니다.
+ */
+interface Transport {
+
+    /**
+     * 직렬화된 메시지를 전송합니다. 같은 EncodedMessage 가 여러 연결에 동시에 전달될 수 있습니다.
+     */
+    void send(EncodedMessage message);
+
+    /**
+     * 이후 송수신을 바이너리 프로토콜로 전환합니다. (LOGIN_RES 전송 직후, 수신 스레드에서 호출)
+     */
+    void useBinaryCodec();
+
+    /**
+     * 연결을 닫습니다. 여러 번 호출해도 안전해야 합니다.
+     */
+    void close();
+
+    /**
+     * 로그 출력용 상대 주소
+     */
+    String getRemoteAddress();
+}